@@ -79,6 +79,41 @@ def predict(text):
     except Exception as e:
         return f"예측 중 오류 발생: {e}"
 
+def predict_batch(texts):
+    """여러 텍스트를 한 번의 (패딩된) forward pass로 예측하는 함수"""
+    if not model or not tokenizer:
+        return "모델이 로드되지 않았습니다."
+
+    try:
+        inputs = tokenizer(
+            texts,
+            return_tensors="pt",
+            padding=True,
+            truncation=True,
+            max_length=128
+        )
+
+        with torch.no_grad():
+            outputs = model(**inputs)
+
+        probs = torch.nn.functional.softmax(outputs.logits, dim=-1)
+        predictions = np.argmax(probs.numpy(), axis=-1)
+
+        # 입력 순서와 동일한 순서로 결과 반환
+        return [
+            {
+                'is_hate': int(predictions[i]),
+                'probability': {
+                    'not_hate': probs[i][0].item(),
+                    'hate': probs[i][1].item()
+                }
+            }
+            for i in range(len(texts))
+        ]
+
+    except Exception as e:
+        return f"예측 중 오류 발생: {e}"
+
 # --- 4. API 엔드포인트 생성 ---
 @app.route('/predict', methods=['POST'])
 def handle_prediction():
@@ -100,6 +135,24 @@ def handle_prediction():
     else:
         return jsonify(prediction_result)
 
+@app.route('/predict_batch', methods=['POST'])
+def handle_batch_prediction():
+    if not request.is_json:
+        return jsonify({"error": "요청 형식이 JSON이 아닙니다."}), 400
+
+    data = request.get_json()
+    texts = data.get('texts')
+
+    if not isinstance(texts, list) or not texts or not all(isinstance(t, str) and t for t in texts):
+        return jsonify({"error": "JSON 데이터에 비어있지 않은 'texts' 배열이 필요합니다."}), 400
+
+    prediction_results = predict_batch(texts)
+
+    if isinstance(prediction_results, str): # 오류 발생 시
+        return jsonify({"error": prediction_results}), 500
+    else:
+        return jsonify({"results": prediction_results})
+
 # --- 5. 서버 실행 ---
 if __name__ == '__main__':
     load_model() # 서버 실행 전 모델 로드
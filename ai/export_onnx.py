@@ -0,0 +1,58 @@
+from transformers import AutoTokenizer, AutoModelForSequenceClassification
+from peft import PeftConfig, PeftModel
+import torch
+import os
+import shutil
+
+# KcELECTRA LoRA 모델을 베이스 모델에 병합한 뒤 ONNX로 내보내는 스크립트
+# 백엔드에서 moderation.backend=onnx 로 설정하면 이 결과물(model.onnx + vocab.txt)을 JVM 안에서 직접 사용한다.
+#   python export_onnx.py
+#   -> KcELECTRA/final_kcelectra_onnx/model.onnx, vocab.txt
+
+MODEL_DIR = "KcELECTRA/final_kcelectra_lora_model"
+OUTPUT_DIR = "KcELECTRA/final_kcelectra_onnx"
+MAX_LENGTH = 128
+
+def export():
+    print(f"'{MODEL_DIR}'에서 모델을 로드합니다...")
+    config = PeftConfig.from_pretrained(MODEL_DIR)
+    base_model = AutoModelForSequenceClassification.from_pretrained(
+        config.base_model_name_or_path,
+        num_labels=2
+    )
+
+    # LoRA 가중치를 베이스 모델에 병합 (추론 시 어댑터 연산이 필요 없도록)
+    model = PeftModel.from_pretrained(base_model, MODEL_DIR).merge_and_unload()
+    model.eval()
+    tokenizer = AutoTokenizer.from_pretrained(MODEL_DIR)
+
+    os.makedirs(OUTPUT_DIR, exist_ok=True)
+    sample = tokenizer(
+        ["예시 문장입니다.", "두 번째 예시"],
+        return_tensors="pt",
+        padding=True,
+        truncation=True,
+        max_length=MAX_LENGTH
+    )
+
+    # 배치 크기와 문장 길이는 가변 (백엔드에서 배치 내 최대 길이에 맞춰 패딩)
+    dynamic_axes = {
+        "input_ids": {0: "batch", 1: "sequence"},
+        "attention_mask": {0: "batch", 1: "sequence"},
+        "token_type_ids": {0: "batch", 1: "sequence"},
+        "logits": {0: "batch"}
+    }
+    torch.onnx.export(
+        model,
+        (sample["input_ids"], sample["attention_mask"], sample["token_type_ids"]),
+        os.path.join(OUTPUT_DIR, "model.onnx"),
+        input_names=["input_ids", "attention_mask", "token_type_ids"],
+        output_names=["logits"],
+        dynamic_axes=dynamic_axes,
+        opset_version=14
+    )
+    shutil.copy(os.path.join(MODEL_DIR, "vocab.txt"), os.path.join(OUTPUT_DIR, "vocab.txt"))
+    print(f"ONNX 모델을 '{OUTPUT_DIR}'에 저장했습니다.")
+
+if __name__ == '__main__':
+    export()
@@ -2,6 +2,7 @@ package com.copoto.project.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.AuthenticationEntryPoint;
@@ -36,6 +37,9 @@ public class SecurityConfig {
                         "/swagger-ui/**",
                         "/v3/api-docs/**"
                     ).permitAll()
+                    // 혐오 판정 임계값 변경, 전체 재검출(backfill)은 관리자만 (security.admin-ids에 등록된 유저)
+                    .requestMatchers(HttpMethod.PUT, "/api/moderation/threshold").hasRole("ADMIN")
+                    .requestMatchers("/api/moderation/backfill").hasRole("ADMIN")
                     //GET요청 바로 통과하도록
                     .requestMatchers("/**").permitAll().requestMatchers(request -> "GET".equalsIgnoreCase(request.getMethod())).permitAll()
                     .anyRequest().authenticated()
@@ -2,12 +2,13 @@ package com.copoto.project.controller;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -18,18 +19,30 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.WebRequest;
 
 import com.copoto.project.dto.ApiResponseCustom;
 import com.copoto.project.dto.CommentRequest;
 import com.copoto.project.dto.CommentResponse;
+import com.copoto.project.dto.CommentThreadVersion;
+import com.copoto.project.dto.post.PostVersion;
 import com.copoto.project.entity.Comment;
+import com.copoto.project.entity.ModerationStatus;
 import com.copoto.project.entity.Post;
 import com.copoto.project.entity.User;
+import com.copoto.project.moderation.AsyncModerationWorker;
+import com.copoto.project.moderation.ContentType;
+import com.copoto.project.moderation.HateSpeechException;
+import com.copoto.project.moderation.ModerationResult;
+import com.copoto.project.moderation.ModerationService;
+import com.copoto.project.moderation.ModerationUnavailableException;
 import com.copoto.project.service.CommentService;
 import com.copoto.project.service.PostService;
 import com.copoto.project.service.UserService;
+import com.copoto.project.util.KeysetCursor;
+import com.copoto.project.util.PageRequests;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,29 +59,38 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "댓글 API", description = "게시글 댓글 등록/조회/수정/삭제 및 혐오 발언 검출")
 public class CommentController {
 
+    // 댓글 목록 정렬 허용 키 - (post_id / user_id, created_at) 인덱스 순서 (id는 인덱스에 포함된 PK)
+    private static final Map<String, String> THREAD_SORTS = Map.of("createdAt", "createdAt", "commentId", "id");
+
     @Autowired
     private CommentService commentService;
     @Autowired
     private UserService userService;
     @Autowired
     private PostService postService;
+    @Autowired
+    private ModerationService moderationService;
+    @Autowired
+    private AsyncModerationWorker asyncModerationWorker;
 
-    private boolean isHateSpeech(String text) {
-        String flaskApiUrl = "http://127.0.0.1:5000/predict";
-        RestTemplate restTemplate = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        String payload = "{\"text\":\"" + text + "\"}";
-        HttpEntity<String> entity = new HttpEntity<>(payload, headers);
-        try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(flaskApiUrl, entity, Map.class);
-            Map<String, Object> result = response.getBody();
-            Integer isHate = result != null ? (Integer) result.get("is_hate") : null;
-            return isHate != null && isHate == 1;
-        } catch (Exception e) {
-            return false;
+    // 조회자 ID 추출 (GET은 인증 없이도 호출 가능하므로 null일 수 있음)
+    private String viewerId(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof User viewer) {
+            return viewer.getId();
         }
+        return null;
+    }
+
+    // 목록 응답 변환
+    private CommentResponse toListResponse(Comment comment) {
+        CommentResponse res = new CommentResponse();
+        res.setCommentId(comment.getId());
+        res.setContent(comment.getContent());
+        res.setUserId(comment.getUser().getId());
+        res.setPostId(comment.getPost().getPostId());
+        res.setCreatedAt(comment.getCreatedAt());
+        res.setModerationStatus(comment.getModerationStatus());
+        return res;
     }
 
 
@@ -180,8 +202,17 @@ public class CommentController {
         if (post == null) {
             return ResponseEntity.status(400).body(new ApiResponseCustom<>(400, "Invalid post ID", null));
         }
-        boolean hate = isHateSpeech(request.getContent());
-        if (hate) {
+        // 비동기 모드: PENDING 상태로 먼저 저장하고 즉시 응답
+        boolean async = asyncModerationWorker.isEnabled();
+        ModerationResult moderation = null;
+        try {
+            if (!async) {
+                moderation = moderationService.moderate(ContentType.COMMENT, request.getContent());
+            }
+        } catch (ModerationUnavailableException e) {
+            return ResponseEntity.status(503).body(new ApiResponseCustom<>(503, e.getMessage(), null));
+        }
+        if (moderation != null && moderation.isHate()) {
             CommentResponse response = new CommentResponse();
             response.setContent(request.getContent());
             response.setUserId(user.getId());
@@ -194,13 +225,25 @@ public class CommentController {
         comment.setContent(request.getContent());
         comment.setUser(user);
         comment.setPost(post);
+        comment.setModerationStatus(async ? ModerationStatus.PENDING : ModerationStatus.APPROVED);
+        if (moderation != null) {
+            commentService.applyModeration(comment, moderation);
+        }
         Comment created = commentService.createComment(comment, post, user);
+        if (async) {
+            asyncModerationWorker.moderateComment(created.getId(), created.getContent());
+        }
         CommentResponse response = new CommentResponse();
         response.setCommentId(created.getId());
         response.setContent(created.getContent());
         response.setUserId(user.getId());
         response.setPostId(post.getPostId());
         response.setCreatedAt(created.getCreatedAt());
+        response.setModerationStatus(created.getModerationStatus());
+        if (async) {
+            return ResponseEntity.status(202).body(
+                new ApiResponseCustom<>(202, "Comment created, pending moderation", response));
+        }
         response.setHateSpeech(false);
         return ResponseEntity.ok(new ApiResponseCustom<>(200, "Comment created successfully", response));
     }
@@ -252,16 +295,21 @@ public class CommentController {
     @GetMapping("/{commentId}")
     public ResponseEntity<ApiResponseCustom<CommentResponse>> getCommentById(
         @Parameter(description = "댓글 ID", example = "1", required = true)
-        @PathVariable("commentId") Long commentId
+        @PathVariable("commentId") Long commentId,
+        Authentication authentication
     ) {
         try {
             Comment comment = commentService.getCommentById(commentId);
+            if (!commentService.isVisibleTo(comment, viewerId(authentication))) {
+                return ResponseEntity.status(404).body(new ApiResponseCustom<>(404, "Comment not found", null));
+            }
             CommentResponse response = new CommentResponse();
             response.setCommentId(comment.getId());
             response.setContent(comment.getContent());
             response.setUserId(comment.getUser().getId());
             response.setPostId(comment.getPost().getPostId());
             response.setCreatedAt(comment.getCreatedAt());
+            response.setModerationStatus(comment.getModerationStatus());
             return ResponseEntity.ok(new ApiResponseCustom<>(200, "Comment fetched successfully", response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(new ApiResponseCustom<>(404, e.getMessage(), null));
@@ -271,7 +319,8 @@ public class CommentController {
 
     @Operation(
         summary = "게시글별 댓글 전체 조회 - 현재 모든 GET은 auth를 필요로 하지 않습니다.",
-        description = "게시글 ID로 댓글 목록을 조회합니다."
+        description = "게시글 ID로 댓글 목록을 조회합니다. page/size/sort를 주면 페이지 단위로(기본 작성순 20개) 반환하고 다음 페이지가 있으면 hasNext가 true입니다. "
+            + "after/limit를 주면 작성순으로 limit개씩 반환하고, 다음 페이지가 있으면 nextCursor를 함께 반환합니다. 아무 파라미터도 없으면 전체 댓글을 작성순으로 반환합니다."
     )
     @ApiResponses({
         @ApiResponse(
@@ -312,6 +361,10 @@ public class CommentController {
                 """)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified - If-None-Match(ETag) / If-Modified-Since 기준으로 댓글이 바뀌지 않았으면 본문 없이 응답"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "없는 게시글의 댓글을 불러올 수는 없어요 - Post not found",
@@ -329,21 +382,69 @@ public class CommentController {
     @GetMapping("/post/{postId}")
     public ResponseEntity<ApiResponseCustom<List<CommentResponse>>> getCommentsByPost(
         @Parameter(description = "게시글 ID", example = "1", required = true)
-        @PathVariable("postId") Long postId
+        @PathVariable("postId") Long postId,
+        @Parameter(description = "cursor 조회 - 이전 응답의 nextCursor (또는 \"createdAt,commentId\"). after/limit를 주면 cursor 방식으로 조회합니다.", example = "MjAyNS0xMC0xNlQxNDozMzo0Mi4xNzA2NDksMTQ")
+        @RequestParam(value = "after", required = false) String after,
+        @Parameter(description = "cursor 조회 페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(value = "limit", required = false) Integer limit,
+        @Parameter(description = "페이지 번호 (0부터)", example = "0")
+        @RequestParam(value = "page", required = false) Integer page,
+        @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(value = "size", required = false) Integer size,
+        @Parameter(description = "정렬 - createdAt 또는 commentId, 방향은 \",asc\" / \",desc\" (기본 createdAt,asc)", example = "createdAt,desc")
+        @RequestParam(value = "sort", required = false) String sort,
+        Authentication authentication,
+        WebRequest webRequest
     ) {
+        boolean byCursor = after != null || limit != null;
+        boolean byPage = !byCursor && (page != null || size != null || sort != null);
+        KeysetCursor cursor = null;
+        Pageable pageable = null;
         try {
-            Post post = postService.getPostById(postId);
-            List<Comment> comments = commentService.getCommentsByPost(post);
-            List<CommentResponse> list = comments.stream().map(comment -> {
-                CommentResponse res = new CommentResponse();
-                res.setCommentId(comment.getId());
-                res.setContent(comment.getContent());
-                res.setUserId(comment.getUser().getId());
-                res.setPostId(comment.getPost().getPostId());
-                res.setCreatedAt(comment.getCreatedAt());
-                return res;
-            }).collect(Collectors.toList());
-            return ResponseEntity.ok(new ApiResponseCustom<>(200, "Comments fetched successfully", list));
+            if (byCursor) {
+                cursor = KeysetCursor.decodeOrStart(after, false);
+                pageable = PageRequests.keyset(limit);
+            } else if (byPage) {
+                pageable = PageRequests.of(page == null ? 0 : page, size == null ? PageRequests.DEFAULT_SIZE : size, sort,
+                    THREAD_SORTS, Sort.by(Sort.Direction.ASC, "createdAt"));
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(new ApiResponseCustom<>(400, e.getMessage(), null));
+        }
+        try {
+            String viewerId = viewerId(authentication);
+            PostVersion postVersion = postService.getPostVersion(postId);
+            if (!postService.isVisibleTo(postVersion, viewerId)) {
+                return ResponseEntity.status(404).body(new ApiResponseCustom<>(404, "Post not found", null));
+            }
+            // 댓글이 바뀌지 않았으면 댓글을 읽지 않고 304 - 보는 사람마다 목록이 다를 수 있어 Vary: Authorization
+            CommentThreadVersion thread = commentService.getThreadVersion(postId);
+            if (webRequest.checkNotModified(commentService.getListETag(postVersion, thread, viewerId),
+                commentService.getListLastModified(postVersion, thread))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.AUTHORIZATION).build();
+            }
+            if (byCursor) {
+                // 작성순으로 limit개씩 - 가시성 조건은 쿼리에 포함되어 있다
+                Slice<Comment> page = commentService.getCommentsAfter(postId, cursor, viewerId, pageable);
+                List<CommentResponse> list = page.getContent().stream().map(this::toListResponse).toList();
+                String nextCursor = null;
+                if (page.hasNext()) {
+                    Comment last = page.getContent().get(page.getNumberOfElements() - 1);
+                    nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+                }
+                return ResponseEntity.ok().varyBy(HttpHeaders.AUTHORIZATION)
+                    .body(new ApiResponseCustom<>(200, "Comments fetched successfully", list, page.hasNext(), nextCursor));
+            }
+            if (byPage) {
+                Slice<Comment> slice = commentService.getCommentsByPost(postId, viewerId, pageable);
+                List<CommentResponse> list = slice.getContent().stream().map(this::toListResponse).toList();
+                return ResponseEntity.ok().varyBy(HttpHeaders.AUTHORIZATION)
+                    .body(new ApiResponseCustom<>(200, "Comments fetched successfully", list, slice.hasNext()));
+            }
+            // 파라미터가 없으면 전체 (기존 클라이언트는 목록 길이를 댓글 수로 쓴다) - 이 게시글의 인덱스 범위만 읽는다
+            List<CommentResponse> list = commentService.getCommentsByPost(postId, viewerId).stream()
+                .map(this::toListResponse).toList();
+            return ResponseEntity.ok().varyBy(HttpHeaders.AUTHORIZATION).body(new ApiResponseCustom<>(200, "Comments fetched successfully", list));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(new ApiResponseCustom<>(404, e.getMessage(), null));
         }
@@ -352,7 +453,7 @@ public class CommentController {
 
     @Operation(
         summary = "유저별 댓글 전체 조회 - 현재 모든 GET은 auth를 필요로 하지 않습니다.",
-        description = "유저 ID로 댓글 목록을 조회합니다."
+        description = "유저 ID로 댓글 목록을 작성순으로 조회합니다. page/size/sort를 주면 페이지 단위로(기본 최신순 20개) 반환하고 다음 페이지가 있으면 hasNext가 true입니다."
     )
     @ApiResponses({
         @ApiResponse(
@@ -415,20 +516,35 @@ public class CommentController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponseCustom<List<CommentResponse>>> getCommentsByUser(
         @Parameter(description = "유저 ID", example = "user123", required = true)
-        @PathVariable("userId") String userId
+        @PathVariable("userId") String userId,
+        @Parameter(description = "페이지 번호 (0부터)", example = "0")
+        @RequestParam(value = "page", required = false) Integer page,
+        @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(value = "size", required = false) Integer size,
+        @Parameter(description = "정렬 - createdAt 또는 commentId, 방향은 \",asc\" / \",desc\" (기본 createdAt,desc)", example = "createdAt,desc")
+        @RequestParam(value = "sort", required = false) String sort,
+        Authentication authentication
     ) {
+        Pageable pageable = null;
+        if (page != null || size != null || sort != null) {
+            try {
+                pageable = PageRequests.of(page == null ? 0 : page, size == null ? PageRequests.DEFAULT_SIZE : size, sort,
+                    THREAD_SORTS, Sort.by(Sort.Direction.DESC, "createdAt"));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(400).body(new ApiResponseCustom<>(400, e.getMessage(), null));
+            }
+        }
         try {
+            String viewerId = viewerId(authentication);
             User user = userService.getUserById(userId);
-            List<Comment> comments = commentService.getCommentsByUser(user);
-            List<CommentResponse> list = comments.stream().map(comment -> {
-                CommentResponse res = new CommentResponse();
-                res.setCommentId(comment.getId());
-                res.setContent(comment.getContent());
-                res.setUserId(comment.getUser().getId());
-                res.setPostId(comment.getPost().getPostId());
-                res.setCreatedAt(comment.getCreatedAt());
-                return res;
-            }).collect(Collectors.toList());
+            if (pageable != null) {
+                // (user_id, created_at) 인덱스에서 요청한 페이지만
+                Slice<Comment> slice = commentService.getCommentsByUser(user.getId(), viewerId, pageable);
+                List<CommentResponse> list = slice.getContent().stream().map(this::toListResponse).toList();
+                return ResponseEntity.ok(new ApiResponseCustom<>(200, "Comments fetched successfully", list, slice.hasNext()));
+            }
+            List<CommentResponse> list = commentService.getCommentsByUser(user.getId(), viewerId).stream()
+                .map(this::toListResponse).toList();
             return ResponseEntity.ok(new ApiResponseCustom<>(200, "Comments fetched successfully", list));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(new ApiResponseCustom<>(404, e.getMessage(), null));
@@ -550,12 +666,8 @@ public class CommentController {
         }
         User user = (User) authentication.getPrincipal();
 
-        if (isHateSpeech(newContent)) {
-            return ResponseEntity.status(405).body(
-                new ApiResponseCustom<>(405, "혐오 발언이 감지되어 댓글이 수정되지 않았습니다.", null));
-        }
-
         try {
+            // 혐오 발언 검출은 바뀐 문장만 서비스에서 수행
             Comment updated = commentService.updateComment(commentId, newContent, user); // user 전달
             CommentResponse response = new CommentResponse();
             response.setCommentId(updated.getId());
@@ -563,8 +675,19 @@ public class CommentController {
             response.setUserId(updated.getUser().getId());
             response.setPostId(updated.getPost().getPostId());
             response.setCreatedAt(updated.getCreatedAt());
+            response.setModerationStatus(updated.getModerationStatus());
 
+            // 비동기 모드: 수정 내용은 저장됐고 혐오 검출은 백그라운드에서 진행
+            if (updated.getModerationStatus() == ModerationStatus.PENDING) {
+                return ResponseEntity.status(202).body(
+                    new ApiResponseCustom<>(202, "Comment updated, pending moderation", response));
+            }
             return ResponseEntity.ok(new ApiResponseCustom<>(200, "Comment updated successfully", response));
+        } catch (HateSpeechException e) {
+            return ResponseEntity.status(405).body(
+                new ApiResponseCustom<>(405, "혐오 발언이 감지되어 댓글이 수정되지 않았습니다.", null));
+        } catch (ModerationUnavailableException e) {
+            return ResponseEntity.status(503).body(new ApiResponseCustom<>(503, e.getMessage(), null));
         } catch (SecurityException e) {
             return ResponseEntity.status(403).body(new ApiResponseCustom<>(403, "You are not allowed to edit this comment.", null));
         } catch (IllegalArgumentException e) {
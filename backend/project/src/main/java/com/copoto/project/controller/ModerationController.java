@@ -0,0 +1,312 @@
+package com.copoto.project.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.copoto.project.dto.ApiResponseCustom;
+import com.copoto.project.moderation.ModerationBackfillJob;
+import com.copoto.project.moderation.ModerationCache;
+import com.copoto.project.moderation.LexiconPreFilter;
+import com.copoto.project.moderation.ModerationCircuitBreaker;
+import com.copoto.project.moderation.ModerationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/moderation")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "혐오 검출 관리 API", description = "혐오 발언 검출 파이프라인 상태 조회")
+public class ModerationController {
+
+    @Autowired
+    private ModerationCache moderationCache;
+
+    @Autowired
+    private ModerationCircuitBreaker moderationCircuitBreaker;
+
+    @Autowired
+    private LexiconPreFilter lexiconPreFilter;
+
+    @Autowired
+    private ModerationService moderationService;
+
+    @Autowired
+    private ModerationBackfillJob moderationBackfillJob;
+
+    @GetMapping("/stats")
+    @Operation(summary = "혐오 검출 통계 조회", description = "금칙어 사전 필터/분류 결과 캐시/중복 요청 병합 카운터와 서킷 브레이커/벌크헤드 상태를 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Moderation stats fetched successfully",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 200,
+                        "message": "Moderation stats fetched successfully",
+                        "data": {
+                            "preFilter": {
+                                "enabled": true,
+                                "patterns": 34,
+                                "blocked": 12,
+                                "allowed": 85,
+                                "passedToModel": 551,
+                                "skippedModelCalls": 97
+                            },
+                            "cache": {
+                                "entries": 120,
+                                "bytes": 24000,
+                                "hits": 431,
+                                "misses": 120,
+                                "evictions": 0
+                            },
+                            "singleflight": {
+                                "inFlight": 3,
+                                "coalesced": 57
+                            },
+                            "circuitBreaker": {
+                                "state": "CLOSED",
+                                "recordedCalls": 42,
+                                "failedCalls": 0,
+                                "slowCalls": 1,
+                                "rejectedByBreaker": 0,
+                                "rejectedByBulkhead": 0,
+                                "availableBulkheadPermits": 16
+                            }
+                        }
+                    }
+                """)
+            )
+        )
+    })
+    public ResponseEntity<ApiResponseCustom<Map<String, Object>>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("preFilter", lexiconPreFilter.getStats());
+        stats.put("cache", moderationCache.getStats());
+        stats.put("singleflight", moderationService.getSingleflightStats());
+        stats.put("circuitBreaker", moderationCircuitBreaker.getStats());
+        return ResponseEntity.ok(new ApiResponseCustom<>(200, "Moderation stats fetched successfully", stats));
+    }
+
+    @PutMapping("/threshold")
+    @Operation(summary = "혐오 판정 임계값 변경", description = "혐오 확률 임계값을 바꾸고, 저장된 점수로 기존 게시글/댓글의 판정과 노출 상태를 다시 계산합니다. (모델을 다시 호출하지 않습니다) 저장된 점수가 조각 중 최댓값이 아니라서 판정이 바뀔 수 있는 항목(needsReclassification)이 있으면 재검출(backfill)을 시작해 그 항목만 모델로 다시 분류합니다. 관리자만 호출할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Moderation threshold updated successfully",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 200,
+                        "message": "Moderation threshold updated successfully",
+                        "data": {
+                            "threshold": 0.7,
+                            "posts": 1520,
+                            "comments": 8841,
+                            "needsReclassification": 12,
+                            "reclassification": "started"
+                        }
+                    }
+                """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "로그인하지 않은 요청 - Unauthorized",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 401,
+                        "message": "Unauthorized",
+                        "data": null
+                    }
+                """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "관리자(security.admin-ids)가 아닌 유저 - Access Denied",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 403,
+                        "message": "Access Denied",
+                        "data": null
+                    }
+                """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Threshold must be in (0, 1]",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 400,
+                        "message": "Threshold must be in (0, 1]",
+                        "data": null
+                    }
+                """)
+            )
+        )
+    })
+    public ResponseEntity<ApiResponseCustom<Map<String, Object>>> updateThreshold(
+        @Parameter(description = "새 임계값 (0 초과 1 이하)", example = "0.7", required = true)
+        @RequestParam("value") double value
+    ) {
+        try {
+            Map<String, Object> result = moderationService.changeThreshold(value);
+            if ((Long) result.get("needsReclassification") > 0) {
+                // 재검출은 현재 모델로 판정된 행 중 점수가 경계값인 행만 다시 분류한다
+                try {
+                    moderationBackfillJob.start(true);
+                    result.put("reclassification", "started");
+                } catch (IllegalStateException e) {
+                    result.put("reclassification", "backfill already running");
+                }
+            }
+            return ResponseEntity.ok(new ApiResponseCustom<>(200, "Moderation threshold updated successfully", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(new ApiResponseCustom<>(400, e.getMessage(), null));
+        }
+    }
+
+    @PostMapping("/backfill")
+    @Operation(summary = "전체 재검출(backfill) 시작", description = "게시글/댓글 전체를 현재 모델로 다시 분류합니다. 백그라운드에서 진행되며 중단된 위치(체크포인트)부터 이어서 진행합니다. restart=true면 처음부터 다시 시작합니다. 관리자만 호출할 수 있습니다. (로그인하지 않으면 401, 관리자가 아니면 403)")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "202",
+            description = "Backfill started",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 202,
+                        "message": "Backfill started",
+                        "data": null
+                    }
+                """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Backfill is already running",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 409,
+                        "message": "Backfill is already running",
+                        "data": null
+                    }
+                """)
+            )
+        )
+    })
+    public ResponseEntity<ApiResponseCustom<Void>> startBackfill(
+        @Parameter(description = "체크포인트를 무시하고 처음부터 시작", example = "false")
+        @RequestParam(value = "restart", defaultValue = "false") boolean restart
+    ) {
+        try {
+            moderationBackfillJob.start(restart);
+            return ResponseEntity.status(202).body(new ApiResponseCustom<>(202, "Backfill started", null));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(new ApiResponseCustom<>(409, e.getMessage(), null));
+        }
+    }
+
+    @GetMapping("/backfill")
+    @Operation(summary = "재검출(backfill) 진행 상황 조회", description = "처리 건수, 처리 속도(건/초), 테이블별 체크포인트를 반환합니다. 관리자만 호출할 수 있습니다. (로그인하지 않으면 401, 관리자가 아니면 403)")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Backfill progress fetched successfully",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 200,
+                        "message": "Backfill progress fetched successfully",
+                        "data": {
+                            "state": "RUNNING",
+                            "currentTable": "post",
+                            "lastId": 4200,
+                            "startedAt": "2025-05-01T12:00:00",
+                            "processed": 4000,
+                            "updated": 3994,
+                            "hateFound": 37,
+                            "failed": 4,
+                            "skipped": 2,
+                            "elapsedSeconds": 95,
+                            "itemsPerSecond": 42.1,
+                            "lastError": null,
+                            "checkpoints": {
+                                "post": {
+                                    "lastId": 4200,
+                                    "processed": 4000,
+                                    "completed": false,
+                                    "modelVersion": "KcELECTRA/final_kcelectra_lora_model",
+                                    "updatedAt": "2025-05-01T12:01:35"
+                                }
+                            }
+                        }
+                    }
+                """)
+            )
+        )
+    })
+    public ResponseEntity<ApiResponseCustom<Map<String, Object>>> getBackfillProgress() {
+        return ResponseEntity.ok(new ApiResponseCustom<>(200, "Backfill progress fetched successfully", moderationBackfillJob.getProgress()));
+    }
+
+    @DeleteMapping("/backfill")
+    @Operation(summary = "재검출(backfill) 중단", description = "진행 중인 chunk까지 처리한 뒤 멈춥니다. 다시 시작하면 체크포인트부터 이어서 진행합니다. 관리자만 호출할 수 있습니다. (로그인하지 않으면 401, 관리자가 아니면 403)")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Backfill stopping",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 200,
+                        "message": "Backfill stopping",
+                        "data": null
+                    }
+                """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Backfill is not running",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 409,
+                        "message": "Backfill is not running",
+                        "data": null
+                    }
+                """)
+            )
+        )
+    })
+    public ResponseEntity<ApiResponseCustom<Void>> stopBackfill() {
+        if (!moderationBackfillJob.stop()) {
+            return ResponseEntity.status(409).body(new ApiResponseCustom<>(409, "Backfill is not running", null));
+        }
+        return ResponseEntity.ok(new ApiResponseCustom<>(200, "Backfill stopping", null));
+    }
+}
@@ -2,12 +2,13 @@ package com.copoto.project.controller;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -18,16 +19,28 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.WebRequest;
 
 import com.copoto.project.dto.ApiResponseCustom;
 import com.copoto.project.dto.post.PostRequest;
 import com.copoto.project.dto.post.PostResponse;
+import com.copoto.project.dto.post.PostSummaryResponse;
+import com.copoto.project.dto.post.PostVersion;
+import com.copoto.project.entity.ModerationStatus;
 import com.copoto.project.entity.Post;
 import com.copoto.project.entity.User;
+import com.copoto.project.moderation.AsyncModerationWorker;
+import com.copoto.project.moderation.ContentType;
+import com.copoto.project.moderation.HateSpeechException;
+import com.copoto.project.moderation.ModerationResult;
+import com.copoto.project.moderation.ModerationService;
+import com.copoto.project.moderation.ModerationUnavailableException;
 import com.copoto.project.service.PostService;
 import com.copoto.project.service.UserService;
+import com.copoto.project.util.KeysetCursor;
+import com.copoto.project.util.PageRequests;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,6 +49,7 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/post")
@@ -43,29 +57,74 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "게시판 API", description = "게시글 관리 API")
 public class PostController {
 
+    // 게시판 목록에서 허용하는 정렬 키 - (type, created_at) 인덱스로 처리 가능한 것만
+    private static final Map<String, String> BOARD_SORTS = Map.of("createdAt", "createdAt", "postId", "postId");
+
     @Autowired
     private PostService postService;
 
     @Autowired
     private UserService userService;
 
-    // AI 혐오 검출 API 호출 메서드
-    private boolean isHateSpeech(String text) {
-        String flaskApiUrl = "http://127.0.0.1:5000/predict";
-        RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private ModerationService moderationService; // AI 혐오 검출
+
+    @Autowired
+    private AsyncModerationWorker asyncModerationWorker; // 비동기 혐오 검출 (opt-in)
+
+    // 조회자 ID 추출 (GET은 인증 없이도 호출 가능하므로 null일 수 있음)
+    private String viewerId(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof User viewer) {
+            return viewer.getId();
+        }
+        return null;
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        String payload = "{\"text\":\"" + text + "\"}";
-        HttpEntity<String> entity = new HttpEntity<>(payload, headers);
+    // 고유 조회자 키 - 로그인 유저는 id, 비로그인은 접속 주소 + User-Agent
+    private String viewerKey(Authentication authentication, HttpServletRequest request) {
+        String viewerId = viewerId(authentication);
+        if (viewerId != null) {
+            return "u:" + viewerId;
+        }
+        return "a:" + request.getRemoteAddr() + "|" + Objects.toString(request.getHeader("User-Agent"), "");
+    }
+
+    // 전체 목록 응답 변환 (본문 포함)
+    private PostResponse toListResponse(Post post) {
+        PostResponse response = new PostResponse();
+        response.setPostId(post.getPostId());
+        response.setTitle(post.getTitle());
+        response.setContents(post.getContents());
+        response.setType(post.getType());
+        response.setViewCount(postService.getViewCount(post));
+        response.setCommentCount(post.getCommentCount());
+        response.setUserId(post.getUser().getId());
+        response.setCreatedAt(post.getCreatedAt());
+        response.setUpdatedAt(post.getUpdatedAt());
+        response.setModerationStatus(post.getModerationStatus());
+        return response;
+    }
+
+    // keyset(cursor) 목록 조회 - after/limit 중 하나라도 주어졌을 때 사용
+    private ResponseEntity<ApiResponseCustom<List<PostSummaryResponse>>> getPostsByCursor(
+        String type, String userId, String after, Integer limit, String viewerId
+    ) {
+        KeysetCursor cursor;
+        Pageable pageable;
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(flaskApiUrl, entity, Map.class);
-            Map<String, Object> result = response.getBody();
-            Integer isHate = result != null ? (Integer) result.get("is_hate") : null;
-            return isHate != null && isHate == 1;
-        } catch (Exception e) {
-            return false;
+            cursor = KeysetCursor.decodeOrStart(after, true);
+            pageable = PageRequests.keyset(limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(new ApiResponseCustom<>(400, e.getMessage(), null));
         }
+        Slice<PostSummaryResponse> posts = postService.getPostsBefore(type, userId, cursor, viewerId, pageable);
+
+        String nextCursor = null;
+        if (posts.hasNext()) {
+            PostSummaryResponse last = posts.getContent().get(posts.getNumberOfElements() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getPostId()).encode();
+        }
+        return ResponseEntity.ok(new ApiResponseCustom<>(200, "Posts fetched successfully", posts.getContent(), posts.hasNext(), nextCursor));
     }
 
 
@@ -169,10 +228,19 @@ public class PostController {
         }
         User user = (User) authentication.getPrincipal();
 
-        // 혐오 발언 검출
-        boolean hateTitle = isHateSpeech(request.getTitle());
-        boolean hateContents = isHateSpeech(request.getContents());
-        if (hateTitle || hateContents) {
+        // 비동기 모드: PENDING 상태로 먼저 저장하고 즉시 응답, 혐오 검출은 백그라운드에서 진행
+        boolean async = asyncModerationWorker.isEnabled();
+
+        // 혐오 발언 검출 (제목 + 본문을 한 번의 배치 호출로 검사)
+        ModerationResult moderation = null;
+        try {
+            if (!async) {
+                moderation = moderationService.moderate(ContentType.POST, request.getTitle(), request.getContents());
+            }
+        } catch (ModerationUnavailableException e) {
+            return ResponseEntity.status(503).body(new ApiResponseCustom<>(503, e.getMessage(), null));
+        }
+        if (moderation != null && moderation.isHate()) {
             PostResponse response = new PostResponse();
             response.setTitle(request.getTitle());
             response.setContents(request.getContents());
@@ -190,8 +258,15 @@ public class PostController {
         post.setType(request.getType());
         post.setView_count(-1L);
         post.setUser(user);
+        post.setModerationStatus(async ? ModerationStatus.PENDING : ModerationStatus.APPROVED);
+        if (moderation != null) {
+            postService.applyModeration(post, moderation);
+        }
 
         Post createdPost = postService.createPost(post, user);
+        if (async) {
+            asyncModerationWorker.moderatePost(createdPost.getPostId(), createdPost.getTitle(), createdPost.getContents());
+        }
 
         // 응답 DTO 생성
         PostResponse response = new PostResponse();
@@ -203,8 +278,13 @@ public class PostController {
         response.setUserId(user.getId());
         response.setCreatedAt(createdPost.getCreatedAt());
         response.setUpdatedAt(createdPost.getUpdatedAt());
-        response.setHateSpeech(false);
+        response.setModerationStatus(createdPost.getModerationStatus());
 
+        if (async) {
+            return ResponseEntity.status(202).body(
+                new ApiResponseCustom<>(202, "Post created, pending moderation", response));
+        }
+        response.setHateSpeech(false);
         return ResponseEntity.ok(new ApiResponseCustom<>(200, "Post created successfully", response));
     }
 
@@ -228,12 +308,18 @@ public class PostController {
                             "createdAt": "2025-10-16T01:51:02.407733",
                             "updatedAt": "2025-10-16T02:07:21.719378",
                             "hateSpeech": null,
-                            "viewCount": 2
+                            "viewCount": 2,
+                            "uniqueViewCount": 1,
+                            "commentCount": 0
                         }
                     }
                 """)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified - If-None-Match(ETag) / If-Modified-Since 기준으로 바뀐 내용이 없으면 본문 없이 응답 (조회수 증가 없음)"
+        ),
         @ApiResponse(
             responseCode = "500",
             description = "Post not found",
@@ -251,28 +337,34 @@ public class PostController {
             )
         )
     })
-    public ResponseEntity<ApiResponseCustom<PostResponse>> getPostById(@PathVariable("postId") Long postId) {
-        Post post = postService.getPostById(postId);
-        if (post == null) {
+    public ResponseEntity<ApiResponseCustom<PostResponse>> getPostById(
+        @PathVariable("postId") Long postId,
+        Authentication authentication,
+        HttpServletRequest request,
+        WebRequest webRequest
+    ) {
+        // 버전(수정/검출/댓글 변경 시각)만 먼저 확인 - 캐시된 글이면 DB를 읽지 않는다
+        PostVersion version = postService.getPostVersion(postId);
+        if (!postService.isVisibleTo(version, viewerId(authentication))) {
             return ResponseEntity.status(404).body(new ApiResponseCustom<>(404, "Post not found", null));
         }
-        postService.increaseViewCount(post); // 특정 게시글 조회 API 호출 시 조회수 증가
+        // 바뀐 게 없으면 본문을 읽지 않고 304 (ETag/Last-Modified 헤더는 checkNotModified가 설정) - 폴링은 조회수에 세지 않는다
+        if (webRequest.checkNotModified(postService.getETag(version), postService.getLastModified(version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
 
-        PostResponse response = new PostResponse();
-        response.setPostId(post.getPostId());
-        response.setTitle(post.getTitle());
-        response.setContents(post.getContents());
-        response.setType(post.getType());
-        response.setViewCount(post.getView_count());
-        response.setUserId(post.getUser().getId());
-        response.setCreatedAt(post.getCreatedAt());
-        response.setUpdatedAt(post.getUpdatedAt());
+        // 본문/작성자/상태는 캐시에서 (수정/삭제/댓글/검출 상태 변경 시 무효화)
+        PostResponse response = postService.getPostResponse(postId);
+        postService.increaseViewCount(postId, viewerKey(authentication, request)); // 특정 게시글 조회 API 호출 시 조회수 증가 (버퍼에 기록)
+
+        response.setViewCount(postService.getViewCount(postId, response.getViewCount()));
+        response.setUniqueViewCount(postService.getUniqueViewCount(postId));
 
         return ResponseEntity.ok(new ApiResponseCustom<>(200, "Post fetched successfully", response));
     }
 
     @GetMapping("/type/{type}")
-    @Operation(summary = "게시판 별 게시글 조회 - GET이므로 현재는 auth를 필요로 하지 않습니다.", description = "게시판 별 게시글 목록을 반환합니다. 글이 없을 경우 빈 목록을 반환합니다.")
+    @Operation(summary = "게시판 별 게시글 조회 - GET이므로 현재는 auth를 필요로 하지 않습니다.", description = "게시판 별 게시글 목록을 페이지 단위로 반환합니다. 글이 없을 경우 빈 목록을 반환합니다. hasNext로 다음 페이지 존재 여부를 알려줍니다. after/limit를 주면 offset 대신 cursor 방식으로 조회하고 nextCursor를 함께 반환합니다.")
     @ApiResponses({
         @ApiResponse(
             responseCode = "200",
@@ -286,51 +378,77 @@ public class PostController {
                             {
                                 "postId": "1",
                                 "title": "My First Post in Free Board",
-                                "contents": "This is the content.",
+                                "excerpt": "This is the content.",
                                 "type": "free",
-                                "view_count": "10",
+                                "viewCount": "10",
                                 "userId": "user123",
                                 "createdAt": "2023-01-01T12:00:00",
-                                "updatedAt": "2023-01-01T12:00:00"
+                                "updatedAt": "2023-01-01T12:00:00",
+                                "commentCount": "2"
                             },
                             {
                                 "postId": "3",
                                 "title": "My First Post in Free Board",
-                                "contents": "This is the content.",
+                                "excerpt": "This is the content.",
                                 "type": "free",
-                                "view_count": "15",
+                                "viewCount": "15",
                                 "userId": "user456",
                                 "createdAt": "2023-01-01T12:00:00",
-                                "updatedAt": "2023-01-01T12:00:00"
+                                "updatedAt": "2023-01-01T12:00:00",
+                                "commentCount": "2"
                             }
-                        ]
+                        ],
+                        "hasNext": false
+                    }
+                """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 page/size/sort",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 400,
+                        "message": "size must be between 1 and 100",
+                        "data": null
                     }
                 """)
             )
         )
     })
-    public ResponseEntity<ApiResponseCustom<List<PostResponse>>> getPostsByType(@PathVariable String type) {
-        List<Post> posts = postService.getPostsByType(type);
+    public ResponseEntity<ApiResponseCustom<List<PostSummaryResponse>>> getPostsByType(
+        @PathVariable String type,
+        @Parameter(description = "페이지 번호 (0부터)", example = "0")
+        @RequestParam(value = "page", defaultValue = "0") int page,
+        @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        @Parameter(description = "정렬 (createdAt 또는 postId, 방향 asc/desc)", example = "createdAt,desc")
+        @RequestParam(value = "sort", required = false) String sort,
+        @Parameter(description = "cursor 조회 - 이전 응답의 nextCursor (또는 \"createdAt,postId\"). after/limit를 주면 cursor 방식으로 조회합니다.", example = "MjAyNS0xMC0xNlQxNDozMzo0Mi4xNzA2NDksMTY")
+        @RequestParam(value = "after", required = false) String after,
+        @Parameter(description = "cursor 조회 페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(value = "limit", required = false) Integer limit,
+        Authentication authentication
+    ) {
+        if (after != null || limit != null) {
+            return getPostsByCursor(type, null, after, limit, viewerId(authentication));
+        }
+        Pageable pageable;
+        try {
+            pageable = PageRequests.of(page, size, sort, BOARD_SORTS, Sort.by(Sort.Direction.DESC, "createdAt"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(new ApiResponseCustom<>(400, e.getMessage(), null));
+        }
+        Slice<PostSummaryResponse> posts = postService.getPostsByType(type, viewerId(authentication), pageable);
 
-        List<PostResponse> postResponses = posts.stream().map(post -> {
-            PostResponse response = new PostResponse();
-            response.setPostId(post.getPostId());
-            response.setTitle(post.getTitle());
-            response.setContents(post.getContents());
-            response.setType(post.getType());
-            response.setViewCount(post.getView_count());
-            response.setUserId(post.getUser().getId());
-            response.setCreatedAt(post.getCreatedAt());
-            response.setUpdatedAt(post.getUpdatedAt());
-            return response;
-        }).toList();
-
-        return ResponseEntity.ok(new ApiResponseCustom<>(200, "Posts fetched successfully", postResponses));
+        return ResponseEntity.ok(new ApiResponseCustom<>(200, "Posts fetched successfully", posts.getContent(), posts.hasNext()));
     }
 
     @Operation(
         summary = "유저 별 게시글 전체 조회 - GET이므로 현재는 auth를 필요로 하지 않습니다.",
-        description = "유저 ID로 게시글 목록을 조회합니다."
+        description = "유저 ID로 게시글 목록을 최신순으로 조회합니다. page/size/sort를 주면 페이지 단위로(기본 20개) 반환하고 다음 페이지가 있으면 hasNext가 true입니다. "
+            + "after/limit를 주면 최신순으로 limit개씩 반환하고, 다음 페이지가 있으면 nextCursor를 함께 반환합니다."
     )
     @ApiResponses({
         @ApiResponse(
@@ -345,22 +463,24 @@ public class PostController {
                             {
                                 "postId": "1",
                                 "title": "My First Post",
-                                "contents": "This is the content of the first post.",
+                                "excerpt": "This is the content of the first post.",
                                 "type": "free",
-                                "view_count": "3",
+                                "viewCount": "3",
                                 "userId": "user123",
                                 "createdAt": "2023-01-01T12:00:00",
-                                "updatedAt": "2023-01-01T12:00:00"
+                                "updatedAt": "2023-01-01T12:00:00",
+                                "commentCount": "2"
                             },
                             {
                                 "postId": "2",
                                 "title": "My Second Post",
-                                "contents": "This is the content of the second post.",
+                                "excerpt": "This is the content of the second post.",
                                 "type": "qna",
-                                "view_count": "5",
+                                "viewCount": "5",
                                 "userId": "user456",
                                 "createdAt": "2023-01-02T12:00:00",
-                                "updatedAt": "2023-01-02T12:00:00"
+                                "updatedAt": "2023-01-02T12:00:00",
+                                "commentCount": "2"
                             }
                         ]
                     }
@@ -382,25 +502,43 @@ public class PostController {
         )
     })
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponseCustom<List<PostResponse>>> getPostsByUser(
+    public ResponseEntity<ApiResponseCustom<List<PostSummaryResponse>>> getPostsByUser(
         @Parameter(description = "유저 ID", example = "user123", required = true)
-        @PathVariable("userId") String userId
+        @PathVariable("userId") String userId,
+        @Parameter(description = "cursor 조회 - 이전 응답의 nextCursor (또는 \"createdAt,postId\"). after/limit를 주면 cursor 방식으로 조회합니다.", example = "MjAyNS0xMC0xNlQxNDozMzo0Mi4xNzA2NDksMTY")
+        @RequestParam(value = "after", required = false) String after,
+        @Parameter(description = "cursor 조회 페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(value = "limit", required = false) Integer limit,
+        @Parameter(description = "페이지 번호 (0부터)", example = "0")
+        @RequestParam(value = "page", required = false) Integer page,
+        @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(value = "size", required = false) Integer size,
+        @Parameter(description = "정렬 - createdAt 또는 postId, 방향은 \",asc\" / \",desc\" (기본 createdAt,desc)", example = "createdAt,desc")
+        @RequestParam(value = "sort", required = false) String sort,
+        Authentication authentication
     ) {
+        boolean byCursor = after != null || limit != null;
+        Pageable pageable = null;
+        if (!byCursor && (page != null || size != null || sort != null)) {
+            try {
+                pageable = PageRequests.of(page == null ? 0 : page, size == null ? PageRequests.DEFAULT_SIZE : size, sort,
+                    BOARD_SORTS, Sort.by(Sort.Direction.DESC, "createdAt"));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(400).body(new ApiResponseCustom<>(400, e.getMessage(), null));
+            }
+        }
         try {
+            String viewerId = viewerId(authentication);
             User user = userService.getUserById(userId);
-            List<Post> posts = postService.getPostsByUser(user);
-            List<PostResponse> list = posts.stream().map(post -> {
-                PostResponse res = new PostResponse();
-                res.setPostId(post.getPostId());
-                res.setTitle(post.getTitle());
-                res.setContents(post.getContents());
-                res.setType(post.getType());
-                res.setViewCount(post.getView_count());
-                res.setUserId(post.getUser().getId());
-                res.setCreatedAt(post.getCreatedAt());
-                res.setUpdatedAt(post.getUpdatedAt());
-                return res;
-            }).collect(Collectors.toList());
+            if (byCursor) {
+                return getPostsByCursor(null, user.getId(), after, limit, viewerId);
+            }
+            if (pageable != null) {
+                // (user_id, created_at) 인덱스에서 요청한 페이지만
+                Slice<PostSummaryResponse> posts = postService.getPostSummariesByUser(user.getId(), viewerId, pageable);
+                return ResponseEntity.ok(new ApiResponseCustom<>(200, "Posts fetched successfully", posts.getContent(), posts.hasNext()));
+            }
+            List<PostSummaryResponse> list = postService.getPostSummariesByUser(user.getId(), viewerId);
             return ResponseEntity.ok(new ApiResponseCustom<>(200, "Posts fetched successfully", list));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(new ApiResponseCustom<>(404, e.getMessage(), null));
@@ -408,7 +546,7 @@ public class PostController {
     }
 
     @GetMapping("/all")
-    @Operation(summary = "모든 게시글 조회 - GET이므로 현재는 auth를 필요로 하지 않습니다.", description = "모든 게시글 목록을 반환합니다.")
+    @Operation(summary = "모든 게시글 조회 - GET이므로 현재는 auth를 필요로 하지 않습니다.", description = "모든 게시글 목록을 본문과 함께 반환합니다. after/limit를 주면 최신순으로 limit개씩 본문 대신 미리보기(excerpt)와 댓글 수를 담아 반환하고, 다음 페이지가 있으면 nextCursor를 함께 반환합니다.")
     @ApiResponses({
         @ApiResponse(
             responseCode = "200",
@@ -445,23 +583,57 @@ public class PostController {
             )
         )
     })
-    public ResponseEntity<ApiResponseCustom<List<PostResponse>>> getAllPosts() {
-        List<PostResponse> posts = postService.getAllPosts().stream().map(post -> {
-            PostResponse response = new PostResponse();
-            response.setPostId(post.getPostId());
-            response.setTitle(post.getTitle());
-            response.setContents(post.getContents());
-            response.setType(post.getType());
-            response.setViewCount(post.getView_count());
-            response.setUserId(post.getUser().getId());
-            response.setCreatedAt(post.getCreatedAt());
-            response.setUpdatedAt(post.getUpdatedAt());
-            return response;
-        }).toList();
+    public ResponseEntity<? extends ApiResponseCustom<? extends List<?>>> getAllPosts(
+        @Parameter(description = "cursor 조회 - 이전 응답의 nextCursor (또는 \"createdAt,postId\"). after/limit를 주면 cursor 방식으로 조회합니다.", example = "MjAyNS0xMC0xNlQxNDozMzo0Mi4xNzA2NDksMTY")
+        @RequestParam(value = "after", required = false) String after,
+        @Parameter(description = "cursor 조회 페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(value = "limit", required = false) Integer limit,
+        Authentication authentication
+    ) {
+        String viewerId = viewerId(authentication);
+        if (after != null || limit != null) {
+            return getPostsByCursor(null, null, after, limit, viewerId);
+        }
+        // 파라미터 없는 전체 조회는 프론트 목록/검색에서 본문을 쓰므로 본문까지 반환
+        List<PostResponse> posts = postService.getAllPosts().stream()
+            .filter(post -> postService.isVisibleTo(post, viewerId))
+            .map(this::toListResponse)
+            .toList();
+        Map<Long, Long> uniqueViews = postService.getUniqueViewCounts(posts.stream().map(PostResponse::getPostId).toList());
+        posts.forEach(response -> response.setUniqueViewCount(uniqueViews.getOrDefault(response.getPostId(), 0L)));
 
         return ResponseEntity.ok(new ApiResponseCustom<>(200, "Posts fetched successfully", posts));
     }
 
+    @GetMapping("/cache/stats")
+    @Operation(summary = "게시글 상세 캐시 통계 조회", description = "게시글 상세 조회 응답 캐시의 항목 수/추정 메모리/적중률/제거/무효화 횟수를 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Post cache stats fetched successfully",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "status": 200,
+                        "message": "Post cache stats fetched successfully",
+                        "data": {
+                            "entries": 42,
+                            "bytes": 183204,
+                            "hits": 9120,
+                            "misses": 311,
+                            "hitRate": 0.967,
+                            "evictions": 0,
+                            "invalidations": 57
+                        }
+                    }
+                """)
+            )
+        )
+    })
+    public ResponseEntity<ApiResponseCustom<Map<String, Object>>> getCacheStats() {
+        return ResponseEntity.ok(new ApiResponseCustom<>(200, "Post cache stats fetched successfully", postService.getCacheStats()));
+    }
+
    @PutMapping("/{postId}")
     @Operation(summary = "게시글 수정 - auth를 필요로 합니다", description = "특정 게시글을 수정합니다.")
     @ApiResponses({
@@ -536,10 +708,11 @@ public class PostController {
         }
         User user = (User) authentication.getPrincipal();
 
-        // 혐오 발언 검출
-        boolean hateTitle = isHateSpeech(request.getTitle());
-        boolean hateContents = isHateSpeech(request.getContents());
-        if (hateTitle || hateContents) {
+        // 게시글 수정 (user 정보 활용) - 혐오 발언 검출은 바뀐 문장만 서비스에서 수행
+        Post updatedPost;
+        try {
+            updatedPost = postService.updatePost(postId, request.getTitle(), request.getContents(), request.getType(), user);
+        } catch (HateSpeechException e) {
             PostResponse response = new PostResponse();
             response.setTitle(request.getTitle());
             response.setContents(request.getContents());
@@ -548,11 +721,10 @@ public class PostController {
             response.setHateSpeech(true);
             return ResponseEntity.status(403).body(
                 new ApiResponseCustom<>(403, "혐오 발언이 감지되어 게시글이 수정되지 않았습니다.", response));
+        } catch (ModerationUnavailableException e) {
+            return ResponseEntity.status(503).body(new ApiResponseCustom<>(503, e.getMessage(), null));
         }
 
-        // 게시글 수정 (user 정보 활용)
-        Post updatedPost = postService.updatePost(postId, request.getTitle(), request.getContents(), request.getType(), user);
-
         // 응답 DTO 생성
         PostResponse response = new PostResponse();
         response.setPostId(updatedPost.getPostId());
@@ -563,8 +735,14 @@ public class PostController {
         response.setUserId(user.getId());
         response.setCreatedAt(updatedPost.getCreatedAt());
         response.setUpdatedAt(updatedPost.getUpdatedAt());
-        response.setHateSpeech(false);
+        response.setModerationStatus(updatedPost.getModerationStatus());
 
+        // 비동기 모드: 수정 내용은 저장됐고 혐오 검출은 백그라운드에서 진행
+        if (updatedPost.getModerationStatus() == ModerationStatus.PENDING) {
+            return ResponseEntity.status(202).body(
+                new ApiResponseCustom<>(202, "Post updated, pending moderation", response));
+        }
+        response.setHateSpeech(false);
         return ResponseEntity.ok(new ApiResponseCustom<>(200, "Post updated successfully", response));
     }
 
@@ -34,9 +34,8 @@ import com.copoto.project.dto.VerifyIDRequest;
 import com.copoto.project.dto.VerifyNicknameRequest;
 import com.copoto.project.dto.UpdatePasswordRequest;
 import com.copoto.project.dto.UpdateHideRequest;
-import com.copoto.project.dto.post.PostResponse;
+import com.copoto.project.dto.post.PostSummaryResponse;
 import com.copoto.project.entity.Comment;
-import com.copoto.project.entity.Post;
 import com.copoto.project.entity.RefreshToken;
 import com.copoto.project.entity.User;
 import com.copoto.project.repository.RefreshTokenRepository;
@@ -431,35 +430,35 @@ public class UserController {
                                     {
                                         "postId": 22,
                                         "title": "ddd",
-                                        "contents": "ddddd",
+                                        "excerpt": "ddddd",
                                         "type": "notice",
                                         "userId": "showmethemoney",
                                         "createdAt": "2025-10-16T20:51:34.763332",
                                         "updatedAt": "2025-10-16T21:07:31.458837",
-                                        "hateSpeech": null,
-                                        "viewCount": 2
+                                        "viewCount": 2,
+                                        "commentCount": 1
                                     },
                                     {
                                         "postId": 23,
                                         "title": "쇼미 자유게시판",
-                                        "contents": "쇼미 자유게시판",
+                                        "excerpt": "쇼미 자유게시판",
                                         "type": "free",
                                         "userId": "showmethemoney",
                                         "createdAt": "2025-10-16T21:07:52.468643",
                                         "updatedAt": "2025-10-16T21:07:52.468643",
-                                        "hateSpeech": null,
-                                        "viewCount": 0
+                                        "viewCount": 0,
+                                        "commentCount": 1
                                     },
                                     {
                                         "postId": 24,
                                         "title": "쇼미 QA",
-                                        "contents": "tyal QA",
+                                        "excerpt": "tyal QA",
                                         "type": "qna",
                                         "userId": "showmethemoney",
                                         "createdAt": "2025-10-16T21:08:02.622237",
                                         "updatedAt": "2025-10-16T21:08:02.622237",
-                                        "hateSpeech": null,
-                                        "viewCount": 0
+                                        "viewCount": 0,
+                                        "commentCount": 1
                                     }
                                 ],
                                 "comments": [
@@ -533,32 +532,24 @@ public class UserController {
             boolean isMe = user.getId().equals(viewerId);
 
             if (isMe || !user.getHide()) {
-                // Fetch all posts by user
-                List<Post> posts = postService.getPostsByUser(user);
-                List<PostResponse> postResponses = posts.stream().map(post -> {
-                    PostResponse postRes = new PostResponse();
-                    postRes.setPostId(post.getPostId());
-                    postRes.setTitle(post.getTitle());
-                    postRes.setContents(post.getContents());
-                    postRes.setType(post.getType());
-                    postRes.setUserId(post.getUser().getId());
-                    postRes.setViewCount(post.getView_count());
-                    postRes.setCreatedAt(post.getCreatedAt());
-                    postRes.setUpdatedAt(post.getUpdatedAt());
-                    return postRes;
-                }).collect(Collectors.toList());
-
-                // Fetch all comments by user
-                List<Comment> comments = commentService.getCommentsByUser(user);
-                List<CommentResponse> commentResponses = comments.stream().map(comment -> {
-                    CommentResponse commentRes = new CommentResponse();
-                    commentRes.setCommentId(comment.getId());
-                    commentRes.setContent(comment.getContent());
-                    commentRes.setUserId(comment.getUser().getId());
-                    commentRes.setPostId(comment.getPost().getPostId());
-                    commentRes.setCreatedAt(comment.getCreatedAt());
-                    return commentRes;
-                }).collect(Collectors.toList());
+                // Fetch all posts by user (본문 대신 미리보기만)
+                // 혐오 검출 대기/거부된 글은 본인에게만 노출
+                final String viewer = viewerId;
+                List<PostSummaryResponse> postResponses = postService.getPostSummariesByUser(user.getId(), viewer);
+
+                // Fetch all comments by user ((user_id, created_at) 인덱스, 노출 조건은 쿼리에서)
+                List<Comment> comments = commentService.getCommentsByUser(user.getId(), viewer);
+                List<CommentResponse> commentResponses = comments.stream()
+                    .map(comment -> {
+                        CommentResponse commentRes = new CommentResponse();
+                        commentRes.setCommentId(comment.getId());
+                        commentRes.setContent(comment.getContent());
+                        commentRes.setUserId(comment.getUser().getId());
+                        commentRes.setPostId(comment.getPost().getPostId());
+                        commentRes.setCreatedAt(comment.getCreatedAt());
+                        commentRes.setModerationStatus(comment.getModerationStatus());
+                        return commentRes;
+                    }).collect(Collectors.toList());
 
                 profile.setPosts(postResponses);
                 profile.setComments(commentResponses);
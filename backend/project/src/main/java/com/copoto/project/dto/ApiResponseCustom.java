@@ -1,8 +1,11 @@
 package com.copoto.project.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "공통 응답 DTO")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponseCustom<T> {
 
     @Schema(description = "HTTP 상태 코드", example = "200")
@@ -12,14 +15,31 @@ public class ApiResponseCustom<T> {
     private String message;
 
     @Schema(description = "응답 데이터")
+    @JsonInclude(JsonInclude.Include.ALWAYS)
     private T data;
 
+    @Schema(description = "다음 페이지 존재 여부 (페이지 조회 API에서만 포함)", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 페이지 커서 - 다음 요청의 after 파라미터로 그대로 전달 (cursor 조회 API에서만 포함)", example = "MjAyNS0xMC0xNlQxNDozMzo0Mi4xNzA2NDksMTY")
+    private String nextCursor;
+
     public ApiResponseCustom(int status, String message, T data) {
         this.status = status;
         this.message = message;
         this.data = data;
     }
 
+    public ApiResponseCustom(int status, String message, T data, Boolean hasNext) {
+        this(status, message, data);
+        this.hasNext = hasNext;
+    }
+
+    public ApiResponseCustom(int status, String message, T data, Boolean hasNext, String nextCursor) {
+        this(status, message, data, hasNext);
+        this.nextCursor = nextCursor;
+    }
+
     public int getStatus() {
         return status;
     }
@@ -43,4 +63,20 @@ public class ApiResponseCustom<T> {
     public void setData(T data) {
         this.data = data;
     }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(Boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
@@ -2,6 +2,8 @@ package com.copoto.project.dto;
 
 import java.time.LocalDateTime;
 
+import com.copoto.project.entity.ModerationStatus;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "댓글 조회/응답 DTO")
@@ -27,6 +29,9 @@ public class CommentResponse {
     @Schema(description = "혐오 발언 여부", example = "false")
     private Boolean hateSpeech; // 추가
 
+    @Schema(description = "혐오 검출 상태 (PENDING / APPROVED / REJECTED)", example = "APPROVED")
+    private ModerationStatus moderationStatus;
+
     public Long getCommentId() { return commentId; }
     public void setCommentId(Long commentId) { this.commentId = commentId; }
     public String getContent() { return content; }
@@ -40,4 +45,7 @@ public class CommentResponse {
 
     public Boolean getHateSpeech() { return hateSpeech; }
     public void setHateSpeech(Boolean hateSpeech) { this.hateSpeech = hateSpeech; }
+
+    public ModerationStatus getModerationStatus() { return moderationStatus; }
+    public void setModerationStatus(ModerationStatus moderationStatus) { this.moderationStatus = moderationStatus; }
 }
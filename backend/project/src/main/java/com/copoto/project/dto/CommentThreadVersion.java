@@ -0,0 +1,8 @@
+package com.copoto.project.dto;
+
+import java.time.LocalDateTime;
+
+// 게시글 댓글 목록의 버전 - 댓글 본문 없이 (post_id, created_at) 범위의 집계값만
+// 작성/삭제는 개수와 마지막 id, 수정은 updatedAt, 혐오 검출 상태 변경은 moderatedAt으로 드러난다
+public record CommentThreadVersion(Long count, Long lastCommentId, LocalDateTime lastUpdatedAt, LocalDateTime lastModeratedAt) {
+}
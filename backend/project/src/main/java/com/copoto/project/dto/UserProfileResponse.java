@@ -3,7 +3,7 @@ package com.copoto.project.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import com.copoto.project.dto.post.PostResponse;
+import com.copoto.project.dto.post.PostSummaryResponse;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -25,7 +25,7 @@ public class UserProfileResponse {
     private Boolean hide;
 
     @Schema(description = "작성한 게시물들", example = "")
-    private List<PostResponse> posts;
+    private List<PostSummaryResponse> posts;
 
     @Schema(description = "작성한 댓글들", example = "")
     private List<CommentResponse> comments;
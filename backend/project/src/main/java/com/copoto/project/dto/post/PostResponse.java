@@ -2,6 +2,8 @@ package com.copoto.project.dto.post;
 
 import java.time.LocalDateTime;
 
+import com.copoto.project.entity.ModerationStatus;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "게시글 응답 DTO")
@@ -22,6 +24,12 @@ public class PostResponse {
     @Schema(description = "조회수", example = "0")
     private Long view_count;
 
+    @Schema(description = "고유 조회자 수 (HyperLogLog 추정값, 오차 약 2%)", example = "0")
+    private Long uniqueViewCount;
+
+    @Schema(description = "댓글 수 (검출 중이거나 혐오로 판정되어 숨겨진 댓글도 포함한 전체 수)", example = "3")
+    private Long commentCount;
+
     @Schema(description = "작성자 ID", example = "user1")
     private String userId;
 
@@ -34,6 +42,9 @@ public class PostResponse {
     @Schema(description = "혐오 발언 여부", example = "false")
     private Boolean hateSpeech; // 추가
 
+    @Schema(description = "혐오 검출 상태 (PENDING / APPROVED / REJECTED)", example = "APPROVED")
+    private ModerationStatus moderationStatus;
+
     // Getter and Setter
     public Long getPostId() {
         return postId;
@@ -75,6 +86,22 @@ public class PostResponse {
         this.view_count = view_count;
     }
 
+    public Long getUniqueViewCount() {
+        return uniqueViewCount;
+    }
+
+    public void setUniqueViewCount(Long uniqueViewCount) {
+        this.uniqueViewCount = uniqueViewCount;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+
     public String getUserId() {
         return userId;
     }
@@ -101,4 +128,7 @@ public class PostResponse {
 
     public Boolean getHateSpeech() { return hateSpeech; }
     public void setHateSpeech(Boolean hateSpeech) { this.hateSpeech = hateSpeech; }
+
+    public ModerationStatus getModerationStatus() { return moderationStatus; }
+    public void setModerationStatus(ModerationStatus moderationStatus) { this.moderationStatus = moderationStatus; }
 }
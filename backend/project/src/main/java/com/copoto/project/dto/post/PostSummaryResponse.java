@@ -0,0 +1,141 @@
+package com.copoto.project.dto.post;
+
+import java.time.LocalDateTime;
+
+import com.copoto.project.entity.ModerationStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+// 목록용 게시글 요약 - 본문(LONGTEXT) 대신 미리보기(excerpt)만 담는다
+// PostRepository의 JPQL 생성자 표현식으로 바로 조회되므로 Post 엔티티를 거치지 않는다
+@Schema(description = "게시글 목록 응답 DTO (본문 대신 미리보기)")
+public class PostSummaryResponse {
+
+    @Schema(description = "게시글 ID", example = "11")
+    private Long postId;
+
+    @Schema(description = "게시글 제목", example = "My First Post")
+    private String title;
+
+    @Schema(description = "게시판 구분", example = "free")
+    private String type;
+
+    @Schema(description = "조회수", example = "0")
+    private Long viewCount;
+
+    @Schema(description = "작성자 ID", example = "user1")
+    private String userId;
+
+    @Schema(description = "게시글 생성 시간", example = "2023-01-01T12:00:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "게시글 수정 시간", example = "2023-01-02T12:00:00")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "혐오 검출 상태 (PENDING / APPROVED / REJECTED)", example = "APPROVED")
+    private ModerationStatus moderationStatus;
+
+    @Schema(description = "본문 미리보기 (앞부분 최대 150자)", example = "This is the content of the post.")
+    private String excerpt;
+
+    @Schema(description = "댓글 수 (검출 중이거나 혐오로 판정되어 숨겨진 댓글도 포함한 전체 수)", example = "3")
+    private Long commentCount;
+
+    public PostSummaryResponse() {
+    }
+
+    public PostSummaryResponse(Long postId, String title, String type, Long viewCount, String userId,
+        LocalDateTime createdAt, LocalDateTime updatedAt, ModerationStatus moderationStatus,
+        String excerpt, Long commentCount) {
+        this.postId = postId;
+        this.title = title;
+        this.type = type;
+        this.viewCount = viewCount;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.moderationStatus = moderationStatus;
+        this.excerpt = excerpt;
+        this.commentCount = commentCount;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(Long viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public ModerationStatus getModerationStatus() {
+        return moderationStatus;
+    }
+
+    public void setModerationStatus(ModerationStatus moderationStatus) {
+        this.moderationStatus = moderationStatus;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+}
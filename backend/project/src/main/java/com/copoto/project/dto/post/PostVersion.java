@@ -0,0 +1,11 @@
+package com.copoto.project.dto.post;
+
+import java.time.LocalDateTime;
+
+import com.copoto.project.entity.ModerationStatus;
+
+// 게시글 상세 응답의 버전 - 본문 없이 조건부 조회(ETag / Last-Modified)와 노출 여부 판단에 필요한 컬럼만
+// 조회수는 요청마다 바뀌므로 넣지 않는다 (상세 응답의 ETag는 weak)
+public record PostVersion(Long postId, String userId, ModerationStatus moderationStatus,
+    LocalDateTime updatedAt, LocalDateTime moderatedAt, LocalDateTime commentsChangedAt) {
+}
@@ -2,14 +2,19 @@ package com.copoto.project.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +24,10 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+    @Index(name = "idx_comment_post_created_at", columnList = "post_id, created_at"), // 게시글별 댓글 목록
+    @Index(name = "idx_comment_user_created_at", columnList = "user_id, created_at") // 유저별 댓글 목록
+})
 public class Comment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,11 +44,36 @@ public class Comment {
     @Column(name = "updated_at", updatable = true)
     private LocalDateTime updatedAt;
 
-    @ManyToOne
+    // 비동기 혐오 검출 모드에서는 PENDING으로 저장된 뒤 APPROVED/REJECTED로 바뀐다
+    @Enumerated(EnumType.STRING)
+    @Column(name = "moderation_status", length = 20, nullable = false)
+    @ColumnDefault("'APPROVED'")
+    private ModerationStatus moderationStatus = ModerationStatus.APPROVED;
+
+    // 혐오 검출 결과 기록 - 내용이 바뀌지 않으면 모델을 다시 호출하지 않고 이 값으로 재평가한다
+    @Column(name = "moderation_score")
+    private Double moderationScore; // 혐오 확률 (0~1)
+
+    // moderation_score가 전체 조각 중 최댓값이면 true - false면 임계값 변경 시 재분류 대상 (ModerationResult.isScoreExact)
+    @ColumnDefault("true")
+    @Column(name = "moderation_score_exact", nullable = false)
+    private boolean moderationScoreExact = true;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "moderation_verdict", length = 20)
+    private ModerationLabel moderationVerdict;
+
+    @Column(name = "moderation_model", length = 100)
+    private String moderationModel;
+
+    @Column(name = "moderated_at")
+    private LocalDateTime moderatedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 }
@@ -0,0 +1,39 @@
+package com.copoto.project.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// 재검출(backfill) 작업의 테이블별 진행 위치 - 서버가 재시작돼도 마지막 처리 id 다음부터 이어서 진행한다
+@Getter
+@Setter
+@Entity
+@Table(name = "moderation_backfill_checkpoint")
+public class ModerationBackfillCheckpoint {
+    @Id
+    @Column(name = "table_name", length = 50)
+    private String tableName; // post, comment
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId = 0L;
+
+    @Column(name = "model_version", length = 100)
+    private String modelVersion; // 이 모델 버전으로 진행 중
+
+    @Column(name = "processed", nullable = false)
+    private Long processed = 0L;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
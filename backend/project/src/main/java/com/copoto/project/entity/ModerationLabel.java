@@ -0,0 +1,9 @@
+package com.copoto.project.entity;
+
+// 혐오 검출 판정 (moderation_verdict 컬럼)
+// 노출 여부는 ModerationStatus가 결정하고, 이 값은 판정 자체를 기록한다.
+public enum ModerationLabel {
+    HATE,    // 혐오 발언
+    CLEAN,   // 혐오 아님
+    UNKNOWN  // 분류기 장애 등으로 판정을 받지 못함 (fail-open으로 통과)
+}
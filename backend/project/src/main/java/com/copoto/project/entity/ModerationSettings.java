@@ -0,0 +1,29 @@
+package com.copoto.project.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// 관리자가 변경한 혐오 검출 설정 - 저장된 판정과 같은 값을 재시작 후에도, 다른 서버에서도 쓰도록 DB에 둔다
+@Getter
+@Setter
+@Entity
+@Table(name = "moderation_settings")
+public class ModerationSettings {
+    public static final String DEFAULT_ID = "default";
+
+    @Id
+    @Column(name = "id", length = 50)
+    private String id = DEFAULT_ID;
+
+    @Column(name = "threshold", nullable = false)
+    private Double threshold;
+
+    @Column(name = "threshold_changed_at")
+    private LocalDateTime thresholdChangedAt;
+}
@@ -0,0 +1,8 @@
+package com.copoto.project.entity;
+
+// 게시글/댓글의 혐오 검출 상태
+public enum ModerationStatus {
+    PENDING,  // 비동기 검출 대기 중 (작성자에게만 노출)
+    APPROVED, // 검출 통과
+    REJECTED  // 혐오 발언으로 판정 (작성자에게만 노출)
+}
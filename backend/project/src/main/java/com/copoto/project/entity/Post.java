@@ -3,18 +3,25 @@ package com.copoto.project.entity;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -22,8 +29,16 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+    @Index(name = "idx_post_type_created_at", columnList = "type, created_at"), // 게시판별 최신순 목록
+    @Index(name = "idx_post_created_at", columnList = "created_at"), // 전체 글 최신순 목록
+    @Index(name = "idx_post_user_created_at", columnList = "user_id, created_at") // 유저별 글 목록
+})
 public class Post {
+
+    // 목록 미리보기 길이 (코드 포인트 기준, 잘리면 말줄임표 추가)
+    public static final int EXCERPT_LENGTH = 150;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY) // 자동 생성 설정
     private Long postId; // Long 타입으로 변경 (AUTO_INCREMENT가 일반적으로 숫자를 사용함)
@@ -34,7 +49,14 @@ public class Post {
     private String contents;
 
 
+    // 본문 앞부분 미리보기 - 목록 조회가 LONGTEXT 본문을 읽지 않도록 저장 시 함께 기록
+    @Column(name = "excerpt", length = EXCERPT_LENGTH + 1)
+    private String excerpt;
+
     private String type;
+
+    // 조회수는 PostViewCounter가 증가 UPDATE로만 갱신 - 엔티티 저장이 오래된 값으로 덮어쓰지 않도록
+    @Column(name = "view_count", updatable = false)
     private Long view_count;
 
     @CreationTimestamp
@@ -45,10 +67,65 @@ public class Post {
     @Column(name = "updated_at", updatable = true)
     private LocalDateTime updatedAt;
 
-    @ManyToOne
+    // 비동기 혐오 검출 모드에서는 PENDING으로 저장된 뒤 APPROVED/REJECTED로 바뀐다
+    @Enumerated(EnumType.STRING)
+    @Column(name = "moderation_status", length = 20, nullable = false)
+    @ColumnDefault("'APPROVED'")
+    private ModerationStatus moderationStatus = ModerationStatus.APPROVED;
+
+    // 혐오 검출 결과 기록 - 내용이 바뀌지 않으면 모델을 다시 호출하지 않고 이 값으로 재평가한다
+    @Column(name = "moderation_score")
+    private Double moderationScore; // 혐오 확률 (0~1)
+
+    // moderation_score가 전체 조각 중 최댓값이면 true - false면 임계값 변경 시 재분류 대상 (ModerationResult.isScoreExact)
+    @ColumnDefault("true")
+    @Column(name = "moderation_score_exact", nullable = false)
+    private boolean moderationScoreExact = true;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "moderation_verdict", length = 20)
+    private ModerationLabel moderationVerdict;
+
+    @Column(name = "moderation_model", length = 100)
+    private String moderationModel;
+
+    @Column(name = "moderated_at")
+    private LocalDateTime moderatedAt;
+
+    // 댓글 수 - 목록이 comment 테이블을 세지 않도록 저장해 둔다
+    // 혐오 검출 상태와 무관한 전체 댓글 수 (작성자 본인에게만 보이는 PENDING/REJECTED 댓글 포함)
+    // 상태가 바뀔 때마다(비동기 검출, 임계값 재적용, 재검출) 증감하지 않아도 되도록 원시 합계로 둔다
+    // PostRepository.addCommentCount(증감 UPDATE)와 CommentCountReconciler(주기적 보정)로만 갱신
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    // 마지막 댓글 작성/삭제 시각 - 조건부 조회(Last-Modified)용, 댓글 수와 함께 갱신
+    @Column(name = "comments_changed_at", insertable = false, updatable = false)
+    private LocalDateTime commentsChangedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL)
     private List<Comment> comments;
+
+    @PrePersist
+    @PreUpdate
+    void updateExcerpt() {
+        this.excerpt = excerptOf(contents);
+    }
+
+    // 공백을 한 칸으로 줄이고 EXCERPT_LENGTH자까지 자른다
+    public static String excerptOf(String contents) {
+        if (contents == null) {
+            return null;
+        }
+        String flat = contents.replaceAll("\\s+", " ").strip();
+        if (flat.codePointCount(0, flat.length()) <= EXCERPT_LENGTH) {
+            return flat;
+        }
+        return flat.substring(0, flat.offsetByCodePoints(0, EXCERPT_LENGTH)) + "…";
+    }
 }
@@ -0,0 +1,30 @@
+package com.copoto.project.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// 게시글별 고유 조회자 HyperLogLog 레지스터 - PostUniqueViewerCounter가 주기적으로 저장한다
+@Getter
+@Setter
+@Entity
+@Table(name = "post_unique_viewers")
+public class PostUniqueViewers {
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "registers", columnDefinition = "MEDIUMBLOB", nullable = false)
+    private byte[] registers; // 2^precision 바이트
+
+    @Column(name = "estimate", nullable = false)
+    private Long estimate; // 저장 시점의 추정 고유 조회자 수 (목록 조회용)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,93 @@
+package com.copoto.project.moderation;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.BiPredicate;
+
+// 여러 패턴을 한 번의 선형 탐색으로 찾는 Aho-Corasick 오토마톤
+// 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 사용해도 된다.
+public class AhoCorasickMatcher {
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node fail;
+        private String pattern; // 이 노드에서 끝나는 패턴
+        private String output; // 이 노드(또는 fail 체인)에서 끝나는 패턴
+    }
+
+    private final Node root = new Node();
+    private final int patternCount;
+
+    public AhoCorasickMatcher(Collection<String> patterns) {
+        int count = 0;
+        for (String pattern : patterns) {
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < pattern.length(); i++) {
+                node = node.children.computeIfAbsent(pattern.charAt(i), c -> new Node());
+            }
+            node.pattern = pattern;
+            node.output = pattern;
+            count++;
+        }
+        this.patternCount = count;
+        buildFailureLinks();
+    }
+
+    private void buildFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != null && !fail.children.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                child.fail = fail == null ? root : fail.children.get(c);
+                if (child.output == null) {
+                    child.output = child.fail.output;
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    // 텍스트에 포함된 첫 번째 패턴 (없으면 null)
+    public String findFirst(CharSequence text) {
+        return findFirst(text, (pattern, start) -> true);
+    }
+
+    // accept(패턴, 시작 위치)를 만족하는 첫 번째 패턴 (없으면 null)
+    public String findFirst(CharSequence text, BiPredicate<String, Integer> accept) {
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(c, root);
+            // 같은 위치에서 끝나는 더 짧은 패턴도 fail 체인을 따라가며 확인
+            for (Node n = node; n != root && n.output != null; n = n.fail) {
+                if (n.pattern != null && accept.test(n.pattern, i - n.pattern.length() + 1)) {
+                    return n.pattern;
+                }
+            }
+        }
+        return null;
+    }
+
+    public int getPatternCount() {
+        return patternCount;
+    }
+}
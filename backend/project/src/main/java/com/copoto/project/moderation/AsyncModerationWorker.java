@@ -0,0 +1,223 @@
+package com.copoto.project.moderation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.copoto.project.entity.Comment;
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationStatus;
+import com.copoto.project.entity.Post;
+import com.copoto.project.repository.CommentRepository;
+import com.copoto.project.repository.PostRepository;
+import com.copoto.project.service.PostResponseCache;
+
+import jakarta.annotation.PreDestroy;
+
+// 비동기 혐오 검출 모드 (moderation.async.enabled=true)
+// 게시글/댓글은 PENDING 상태로 먼저 저장되고, 여기서 백그라운드로 검사한 뒤 APPROVED/REJECTED로 바꾼다.
+// 수정으로 같은 글이 다시 큐에 들어가면 마지막 작업의 결과만 기록한다 (워커가 여러 개라 이전 작업이 나중에 끝날 수 있음).
+// 종료/장애로 큐에서 사라져 PENDING으로 남은 행은 recoverPending이 주기적으로 다시 넣는다.
+@Component
+public class AsyncModerationWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncModerationWorker.class);
+
+    private final ModerationService moderationService;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostResponseCache postResponseCache;
+    private final boolean enabled;
+    private final long recoveryStaleAfterMs;
+    private final int recoveryBatchSize;
+    private final ThreadPoolExecutor executor;
+
+    // id -> 결과를 기록할 수 있는 마지막 작업 번호
+    private final AtomicLong jobSequence = new AtomicLong();
+    private final Map<Long, Long> latestPostJobs = new ConcurrentHashMap<>();
+    private final Map<Long, Long> latestCommentJobs = new ConcurrentHashMap<>();
+
+    public AsyncModerationWorker(
+        ModerationService moderationService,
+        PostRepository postRepository,
+        CommentRepository commentRepository,
+        PostResponseCache postResponseCache,
+        @Value("${moderation.async.enabled:false}") boolean enabled,
+        @Value("${moderation.async.workers:4}") int workers,
+        @Value("${moderation.async.queue-capacity:1000}") int queueCapacity,
+        @Value("${moderation.async.recovery-stale-after-ms:300000}") long recoveryStaleAfterMs,
+        @Value("${moderation.async.recovery-batch-size:200}") int recoveryBatchSize
+    ) {
+        this.moderationService = moderationService;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postResponseCache = postResponseCache;
+        this.enabled = enabled;
+        this.recoveryStaleAfterMs = recoveryStaleAfterMs;
+        this.recoveryBatchSize = recoveryBatchSize;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 큐가 가득 차면 요청 스레드에서 직접 검사 (PENDING 상태로 방치되지 않도록)
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "moderation-async-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 수정 내용을 저장하기 전에 호출: 이미 큐에 있는 이전 내용의 검사 결과가 새 내용 위에 기록되지 않도록 한다
+    public void supersedePost(Long postId) {
+        latestPostJobs.put(postId, jobSequence.incrementAndGet());
+    }
+
+    public void supersedeComment(Long commentId) {
+        latestCommentJobs.put(commentId, jobSequence.incrementAndGet());
+    }
+
+    public void moderatePost(Long postId, String title, String contents) {
+        long job = jobSequence.incrementAndGet();
+        latestPostJobs.put(postId, job);
+        executor.execute(() -> processPost(postId, job, title, contents));
+    }
+
+    public void moderateComment(Long commentId, String content) {
+        long job = jobSequence.incrementAndGet();
+        latestCommentJobs.put(commentId, job);
+        executor.execute(() -> process(ContentType.COMMENT, latestCommentJobs, commentRepository::updateModeration, commentId, job, content));
+    }
+
+    // PENDING으로 오래 남은 행을 다시 큐에 넣는다 (종료 시 큐에 남아 있던 작업, 장애로 사라진 작업)
+    // 이 서버에 이미 진행 중이거나 수정으로 대체된 작업이 있는 행은 건너뛰고,
+    // 읽은 뒤 수정돼 판정이 끝난 행은 PENDING이 아니므로 결과가 기록되지 않는다 (updateModeration 조건)
+    @Scheduled(initialDelayString = "${moderation.async.recovery-initial-delay-ms:30000}",
+        fixedDelayString = "${moderation.async.recovery-interval-ms:600000}")
+    public synchronized int recoverPending() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(recoveryStaleAfterMs));
+        int recovered = 0;
+        long lastId = 0;
+        List<Post> posts;
+        do {
+            posts = postRepository.findStalePending(before, lastId, PageRequest.ofSize(recoveryBatchSize));
+            for (Post post : posts) {
+                long job = jobSequence.incrementAndGet();
+                if (latestPostJobs.putIfAbsent(post.getPostId(), job) == null) {
+                    executor.execute(() -> processPost(post.getPostId(), job, post.getTitle(), post.getContents()));
+                    recovered++;
+                }
+                lastId = post.getPostId();
+            }
+        } while (posts.size() == recoveryBatchSize);
+
+        lastId = 0;
+        List<Comment> comments;
+        do {
+            comments = commentRepository.findStalePending(before, lastId, PageRequest.ofSize(recoveryBatchSize));
+            for (Comment comment : comments) {
+                long job = jobSequence.incrementAndGet();
+                if (latestCommentJobs.putIfAbsent(comment.getId(), job) == null) {
+                    executor.execute(() -> process(ContentType.COMMENT, latestCommentJobs, commentRepository::updateModeration,
+                        comment.getId(), job, comment.getContent()));
+                    recovered++;
+                }
+                lastId = comment.getId();
+            }
+        } while (comments.size() == recoveryBatchSize);
+
+        if (recovered > 0) {
+            log.info("Re-enqueued {} stale PENDING posts/comments", recovered);
+        }
+        return recovered;
+    }
+
+    private void processPost(Long postId, long job, String title, String contents) {
+        if (process(ContentType.POST, latestPostJobs, postRepository::updateModeration, postId, job, title, contents)) {
+            postResponseCache.invalidate(postId);
+        }
+    }
+
+    private boolean process(ContentType contentType, Map<Long, Long> latestJobs, ModerationWriter writer, Long id, long job, String... texts) {
+        Outcome outcome;
+        try {
+            outcome = moderate(contentType, texts);
+        } catch (RuntimeException e) {
+            // 다음 복구 작업이 이 행을 건너뛰지 않도록
+            latestJobs.remove(id, job);
+            throw e;
+        }
+        ModerationResult result = outcome.result();
+        boolean applied = applyIfLatest(latestJobs, id, job, () -> writer.write(id, outcome.status(), result.getScore(),
+            result.isScoreExact(), result.getLabel(), result.getModelVersion(), result.getModeratedAt()) > 0);
+        log.debug("{} {} moderated: {} (applied: {})", contentType, id, outcome.status(), applied);
+        return applied;
+    }
+
+    // 마지막 작업일 때만 기록 - 같은 키의 supersede/moderate 호출은 기록이 끝날 때까지 기다린다
+    private static boolean applyIfLatest(Map<Long, Long> latestJobs, Long id, long job, BooleanSupplier update) {
+        boolean[] applied = new boolean[1];
+        try {
+            latestJobs.computeIfPresent(id, (key, latest) -> {
+                if (latest != job) {
+                    return latest;
+                }
+                applied[0] = update.getAsBoolean();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            latestJobs.remove(id, job);
+            throw e;
+        }
+        return applied[0];
+    }
+
+    private Outcome moderate(ContentType contentType, String... texts) {
+        try {
+            ModerationResult result = moderationService.moderate(contentType, texts);
+            return new Outcome(result, result.isHate() ? ModerationStatus.REJECTED : ModerationStatus.APPROVED);
+        } catch (ModerationUnavailableException e) {
+            // fail-closed 정책: 판정을 받지 못한 콘텐츠는 노출하지 않는다
+            return new Outcome(ModerationResult.of(ModerationLabel.UNKNOWN, null, null), ModerationStatus.REJECTED);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // 남은 항목은 PENDING으로 남고, 다음 실행의 recoverPending이 다시 큐에 넣는다
+            log.warn("Async moderation did not finish, {} items remain PENDING until recovered", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    private record Outcome(ModerationResult result, ModerationStatus status) {
+    }
+
+    // postRepository/commentRepository.updateModeration - 기록된 행 수 반환
+    @FunctionalInterface
+    private interface ModerationWriter {
+        int write(Long id, ModerationStatus status, Double score, boolean scoreExact, ModerationLabel verdict, String model,
+            LocalDateTime moderatedAt);
+    }
+}
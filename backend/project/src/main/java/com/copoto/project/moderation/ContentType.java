@@ -0,0 +1,7 @@
+package com.copoto.project.moderation;
+
+// 혐오 검출 대상 콘텐츠 종류 (종류별로 AI 서버 장애 시 정책을 다르게 줄 수 있다)
+public enum ContentType {
+    POST,
+    COMMENT
+}
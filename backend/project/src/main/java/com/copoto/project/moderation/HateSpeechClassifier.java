@@ -0,0 +1,18 @@
+package com.copoto.project.moderation;
+
+import java.util.List;
+
+// 혐오 발언 분류 백엔드 (moderation.backend 속성으로 선택)
+// - http (기본값): Flask AI 서버 호출 (HateSpeechClient)
+// - onnx: JVM 안에서 ONNX Runtime으로 직접 추론 (OnnxHateSpeechClassifier)
+// 분류에 실패하면 예외 대신 ModerationVerdict.unavailable()을 돌려준다.
+public interface HateSpeechClassifier {
+
+    ModerationVerdict classify(String text);
+
+    // 결과는 입력과 같은 순서, 같은 개수로 반환한다.
+    List<ModerationVerdict> classifyBatch(List<String> texts);
+
+    // 판정 결과와 함께 저장되는 모델 식별자
+    String getModelVersion();
+}
@@ -0,0 +1,158 @@
+package com.copoto.project.moderation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+// AI 혐오 검출 API(Flask) 호출 클라이언트
+// 요청마다 RestTemplate을 새로 만들지 않고, keep-alive 커넥션 풀을 공유한다.
+// 컨트롤러에서는 직접 호출하지 않고 ModerationService를 통해 사용한다.
+@Component
+@ConditionalOnProperty(name = "moderation.backend", havingValue = "http", matchIfMissing = true)
+public class HateSpeechClient implements HateSpeechClassifier {
+
+    private static final Logger log = LoggerFactory.getLogger(HateSpeechClient.class);
+
+    private final String predictUrl;
+    private final String predictBatchUrl;
+    private final long latencyBudgetMs;
+    private final String modelVersion;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+
+    public HateSpeechClient(
+        @Value("${moderation.api.url:http://127.0.0.1:5000}") String apiUrl,
+        @Value("${moderation.pool.max-total:64}") int maxTotal,
+        @Value("${moderation.pool.max-per-route:64}") int maxPerRoute,
+        @Value("${moderation.connect-timeout-ms:300}") long connectTimeoutMs,
+        @Value("${moderation.read-timeout-ms:2000}") long readTimeoutMs,
+        @Value("${moderation.latency-budget-ms:2500}") long latencyBudgetMs,
+        @Value("${moderation.model-version:KcELECTRA/final_kcelectra_lora_model}") String modelVersion
+    ) {
+        this.predictUrl = apiUrl + "/predict";
+        this.predictBatchUrl = apiUrl + "/predict_batch";
+        this.latencyBudgetMs = latencyBudgetMs;
+        this.modelVersion = modelVersion;
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build())
+            .build();
+
+        // 풀에서 커넥션을 빌려오는 대기 시간은 지연 예산을 넘지 않도록 제한
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(latencyBudgetMs))
+            .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+            .build();
+
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .evictIdleConnections(TimeValue.ofSeconds(30))
+            .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    @Override
+    public ModerationVerdict classify(String text) {
+        long start = System.nanoTime();
+        try {
+            Map<String, Object> result = post(predictUrl, Map.of("text", text));
+            return ModerationVerdict.fromResponse(result);
+        } catch (RestClientException e) {
+            log.warn("Hate speech API call failed: {}", e.getMessage());
+            return ModerationVerdict.unavailable();
+        } finally {
+            checkLatency(start);
+        }
+    }
+
+    // /predict_batch: {"texts": [...]} -> {"results": [{"is_hate": .., "probability": {..}}, ...]}
+    @Override
+    public List<ModerationVerdict> classifyBatch(List<String> texts) {
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+        if (texts.size() == 1) {
+            return List.of(classify(texts.get(0)));
+        }
+
+        long start = System.nanoTime();
+        try {
+            Map<String, Object> result = post(predictBatchUrl, Map.of("texts", texts));
+            if (result != null && result.get("results") instanceof List<?> results && results.size() == texts.size()) {
+                List<ModerationVerdict> verdicts = new ArrayList<>(results.size());
+                for (Object item : results) {
+                    verdicts.add(item instanceof Map<?, ?> map ? ModerationVerdict.fromResponse(castMap(map)) : ModerationVerdict.unavailable());
+                }
+                return verdicts;
+            }
+            log.warn("Hate speech batch API returned an unexpected body");
+        } catch (RestClientException e) {
+            log.warn("Hate speech batch API call failed: {}", e.getMessage());
+        } finally {
+            checkLatency(start);
+        }
+        return Collections.nCopies(texts.size(), ModerationVerdict.unavailable());
+    }
+
+    @Override
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    private Map<String, Object> post(String url, Map<String, ?> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, ?>> entity = new HttpEntity<>(body, headers);
+        return restTemplate.exchange(url, HttpMethod.POST, entity,
+            new ParameterizedTypeReference<Map<String, Object>>() {}).getBody();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castMap(Map<?, ?> map) {
+        return (Map<String, Object>) map;
+    }
+
+    private void checkLatency(long start) {
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        if (elapsedMs > latencyBudgetMs) {
+            log.warn("Hate speech API call exceeded latency budget: {}ms > {}ms", elapsedMs, latencyBudgetMs);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
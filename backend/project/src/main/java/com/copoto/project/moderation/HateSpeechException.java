@@ -0,0 +1,9 @@
+package com.copoto.project.moderation;
+
+// 혐오 발언이 감지되어 작업(게시글/댓글 수정 등)을 거부할 때 사용
+public class HateSpeechException extends RuntimeException {
+
+    public HateSpeechException(ContentType contentType) {
+        super("혐오 발언이 감지되었습니다. (" + contentType.name().toLowerCase() + ")");
+    }
+}
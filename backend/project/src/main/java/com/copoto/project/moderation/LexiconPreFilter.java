@@ -0,0 +1,147 @@
+package com.copoto.project.moderation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+// AI 서버 호출 전에 실행되는 금칙어 사전 필터
+// - 사전(moderation.prefilter.lexicon)에 있는 표현이 한 단어 안에 있으면 모델 호출 없이 바로 차단 (BLOCK)
+//   (영문 표현은 단어 앞부분에서 시작할 때만 - "snigger" 같은 단어는 차단하지 않는다)
+// - 단어 경계를 지워야만 걸리는 경우("아저씨 발이", "개 새끼")는 애매하므로 모델 판정에 맡긴다 (UNKNOWN)
+// - 아주 짧은 텍스트, 이모지/숫자/기호만 있는 텍스트는 모델 호출 없이 통과 (ALLOW)
+// - 그 외에는 모델 판정이 필요 (UNKNOWN)
+@Component
+public class LexiconPreFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(LexiconPreFilter.class);
+
+    public enum Decision { BLOCK, ALLOW, UNKNOWN }
+
+    private final boolean enabled;
+    private final int shortTextLength;
+    private final AhoCorasickMatcher matcher;
+
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong allowed = new AtomicLong();
+    private final AtomicLong passedToModel = new AtomicLong();
+    private final AtomicLong ambiguous = new AtomicLong();
+
+    public LexiconPreFilter(
+        ResourceLoader resourceLoader,
+        @Value("${moderation.prefilter.enabled:true}") boolean enabled,
+        @Value("${moderation.prefilter.lexicon:classpath:moderation/block-lexicon.txt}") String lexiconLocation,
+        @Value("${moderation.prefilter.short-text-length:2}") int shortTextLength
+    ) {
+        this.enabled = enabled;
+        this.shortTextLength = shortTextLength;
+        this.matcher = new AhoCorasickMatcher(loadLexicon(resourceLoader.getResource(lexiconLocation)));
+        log.info("Moderation lexicon loaded: {} patterns", matcher.getPatternCount());
+    }
+
+    // 한 줄에 하나의 표현, #으로 시작하는 줄은 주석
+    private static List<String> loadLexicon(Resource resource) {
+        List<String> patterns = new ArrayList<>();
+        if (!resource.exists()) {
+            log.warn("Moderation lexicon not found: {}", resource.getDescription());
+            return patterns;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String folded = TextNormalizer.foldForLexicon(line);
+                if (!folded.isEmpty()) {
+                    patterns.add(folded);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read moderation lexicon: " + resource.getDescription(), e);
+        }
+        return patterns;
+    }
+
+    public Decision check(String text) {
+        if (!enabled) {
+            return Decision.UNKNOWN;
+        }
+        if (text == null) {
+            allowed.incrementAndGet();
+            return Decision.ALLOW;
+        }
+
+        // "씨1발"처럼 한글 사이에 숫자/영문을 끼워 넣은 경우를 위해 한글 자모만 남긴 형태도 검사
+        for (String token : TextNormalizer.lexiconTokens(text)) {
+            if (matcher.findFirst(token, LexiconPreFilter::acceptInToken) != null
+                || matcher.findFirst(hangulOnly(token)) != null) {
+                blocked.incrementAndGet();
+                return Decision.BLOCK;
+            }
+        }
+
+        // 단어 경계를 모두 지웠을 때만 걸리면 정상 문장일 수도 있으므로 모델로 보낸다 (짧은 텍스트라도 ALLOW 하지 않음)
+        String folded = TextNormalizer.foldForLexicon(text);
+        if (matcher.findFirst(folded) != null || matcher.findFirst(hangulOnly(folded)) != null) {
+            ambiguous.incrementAndGet();
+            passedToModel.incrementAndGet();
+            return Decision.UNKNOWN;
+        }
+
+        String stripped = text.strip();
+        boolean hasLetter = stripped.codePoints().anyMatch(Character::isLetter);
+        if (!hasLetter || stripped.codePointCount(0, stripped.length()) <= shortTextLength) {
+            allowed.incrementAndGet();
+            return Decision.ALLOW;
+        }
+
+        passedToModel.incrementAndGet();
+        return Decision.UNKNOWN;
+    }
+
+    // 한글 표현은 단어 안 어디서든 ("씨발놈아"), 영문 표현은 단어 앞부분에서 시작할 때만 ("fucking"은 차단, "snigger"는 제외)
+    private static boolean acceptInToken(String pattern, int start) {
+        return start == 0 || !isLatin(pattern.charAt(0));
+    }
+
+    private static boolean isLatin(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.LATIN;
+    }
+
+    private static String hangulOnly(String folded) {
+        StringBuilder hangul = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (c >= '\u1100' && c <= '\u11FF') {
+                hangul.append(c);
+            }
+        }
+        return hangul.toString();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("patterns", matcher.getPatternCount());
+        stats.put("blocked", blocked.get());
+        stats.put("allowed", allowed.get());
+        stats.put("passedToModel", passedToModel.get());
+        stats.put("ambiguous", ambiguous.get());
+        stats.put("skippedModelCalls", blocked.get() + allowed.get());
+        return stats;
+    }
+}
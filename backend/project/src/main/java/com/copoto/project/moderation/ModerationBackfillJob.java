@@ -0,0 +1,310 @@
+package com.copoto.project.moderation;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.copoto.project.entity.ModerationBackfillCheckpoint;
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationStatus;
+import com.copoto.project.repository.ModerationBackfillCheckpointRepository;
+import com.copoto.project.service.PostResponseCache;
+
+import jakarta.annotation.PreDestroy;
+
+// 전체 게시글/댓글 재검출(backfill) 작업 - 새 모델 버전 배포 후 기존 데이터를 다시 분류할 때 사용
+// - id 기준 keyset 페이지(chunk-size개)씩 읽어서 전체 테이블을 메모리에 올리지 않는다
+// - 각 행은 일반 검출 경로(ModerationService.evaluate -> 배치 디스패처)로 최대 parallelism개씩 동시에 분류
+// - 결과는 JDBC batch update로 반영하고, chunk마다 마지막 id를 체크포인트로 저장해 중단 후 이어서 진행할 수 있다
+// - 이미 현재 모델(또는 금칙어 사전/허용 규칙)로 판정된 행은 건너뛴다 (점수가 경계값인 행은 모델이 같아도 다시 분류)
+// - 혐오 조각을 찾아도 나머지 조각까지 분류해 점수를 최댓값으로 기록한다 (임계값 변경 시 SQL로 재판정할 수 있도록)
+// - 비동기 검출이 진행 중인(PENDING) 행은 그 결과가 반영되도록 건드리지 않는다
+// - 읽은 뒤 분류하는 사이에 수정/검출된 행(moderated_at이 바뀐 행)은 이전 내용에 대한 결과이므로 기록하지 않는다
+@Component
+public class ModerationBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ModerationBackfillJob.class);
+
+    public enum State { IDLE, RUNNING, STOPPING, COMPLETED, FAILED }
+
+    private record Target(String table, String idColumn, String textColumns) {
+    }
+
+    private record Row(long id, Timestamp moderatedAt, String[] texts) {
+    }
+
+    // update 문에서 id 파라미터 위치
+    private static final int ID_ARG = 6;
+
+    private static final List<Target> TARGETS = List.of(
+        new Target("post", "post_id", "title, contents"),
+        new Target("comment", "id", "content")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ModerationService moderationService;
+    private final HateSpeechClassifier classifier;
+    private final ModerationBackfillCheckpointRepository checkpointRepository;
+    private final PostResponseCache postResponseCache;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private volatile State state = State.IDLE;
+    private volatile String currentTable;
+    private volatile long lastId;
+    private volatile String lastError;
+    private volatile LocalDateTime startedAt;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong hateFound = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private Thread worker;
+
+    public ModerationBackfillJob(
+        JdbcTemplate jdbcTemplate,
+        ModerationService moderationService,
+        HateSpeechClassifier classifier,
+        ModerationBackfillCheckpointRepository checkpointRepository,
+        PostResponseCache postResponseCache,
+        @Value("${moderation.backfill.chunk-size:200}") int chunkSize,
+        @Value("${moderation.backfill.parallelism:8}") int parallelism
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.moderationService = moderationService;
+        this.classifier = classifier;
+        this.checkpointRepository = checkpointRepository;
+        this.postResponseCache = postResponseCache;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    // restart=true면 체크포인트를 무시하고 처음부터 다시 진행
+    public synchronized void start(boolean restart) {
+        if (state == State.RUNNING || state == State.STOPPING) {
+            throw new IllegalStateException("Backfill is already running");
+        }
+        processed.set(0);
+        updated.set(0);
+        hateFound.set(0);
+        failed.set(0);
+        skipped.set(0);
+        lastError = null;
+        startedAt = LocalDateTime.now();
+        startedNanos = System.nanoTime();
+        finishedNanos = 0;
+        state = State.RUNNING;
+
+        worker = new Thread(() -> run(restart), "moderation-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 현재 chunk까지 처리하고 멈춘다 (체크포인트가 남아 있으므로 다시 시작하면 이어서 진행)
+    public synchronized boolean stop() {
+        if (state != State.RUNNING) {
+            return false;
+        }
+        state = State.STOPPING;
+        return true;
+    }
+
+    private void run(boolean restart) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory());
+        try {
+            String modelVersion = classifier.getModelVersion();
+            for (Target target : TARGETS) {
+                if (state != State.RUNNING) {
+                    break;
+                }
+                backfill(target, modelVersion, restart, executor);
+            }
+            state = state == State.RUNNING ? State.COMPLETED : State.IDLE;
+            log.info("Moderation backfill finished: {}", getProgress());
+        } catch (RuntimeException e) {
+            lastError = e.getMessage();
+            state = State.FAILED;
+            log.error("Moderation backfill failed", e);
+        } finally {
+            finishedNanos = System.nanoTime();
+            executor.shutdownNow();
+        }
+    }
+
+    private void backfill(Target target, String modelVersion, boolean restart, ExecutorService executor) {
+        ModerationBackfillCheckpoint checkpoint = checkpointRepository.findById(target.table())
+            .orElseGet(() -> {
+                ModerationBackfillCheckpoint created = new ModerationBackfillCheckpoint();
+                created.setTableName(target.table());
+                return created;
+            });
+        // 모델 버전이 바뀌었으면 처음부터
+        if (restart || !modelVersion.equals(checkpoint.getModelVersion())) {
+            checkpoint.setLastId(0L);
+            checkpoint.setProcessed(0L);
+            checkpoint.setCompleted(false);
+            checkpoint.setModelVersion(modelVersion);
+        }
+        if (checkpoint.isCompleted()) {
+            return;
+        }
+
+        currentTable = target.table();
+        lastId = checkpoint.getLastId();
+        String select = "select " + target.idColumn() + ", moderated_at, " + target.textColumns() + " from " + target.table()
+            + " where " + target.idColumn() + " > ?"
+            + " and moderation_status <> 'PENDING'"
+            + " and (moderation_model is null or moderation_model not in (?, ?, ?) or moderation_score_exact = false)"
+            + " order by " + target.idColumn() + " limit ?";
+        // 읽을 때의 moderated_at과 같을 때만 기록 (null이면 is null로 비교해야 하므로 문장을 나눈다)
+        String update = "update " + target.table()
+            + " set moderation_status = ?, moderation_score = ?, moderation_score_exact = ?, moderation_verdict = ?, moderation_model = ?,"
+            + " moderated_at = ?,"
+            + " updated_at = updated_at"
+            + " where " + target.idColumn() + " = ? and moderation_status <> 'PENDING'";
+        String updateModerated = update + " and moderated_at = ?";
+        String updateNeverModerated = update + " and moderated_at is null";
+        int textCount = target.textColumns().split(",").length;
+
+        while (state == State.RUNNING) {
+            List<Row> rows = jdbcTemplate.query(select, (rs, rowNum) -> {
+                String[] texts = new String[textCount];
+                for (int i = 0; i < textCount; i++) {
+                    texts[i] = rs.getString(i + 3);
+                }
+                return new Row(rs.getLong(1), rs.getTimestamp(2), texts);
+            }, lastId, modelVersion, ModerationResult.LEXICON_MODEL, ModerationResult.ALLOW_LIST_MODEL, chunkSize);
+            if (rows.isEmpty()) {
+                checkpoint.setCompleted(true);
+                checkpointRepository.save(checkpoint);
+                return;
+            }
+
+            List<CompletableFuture<ModerationResult>> futures = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                futures.add(CompletableFuture.supplyAsync(() -> moderationService.evaluateFully(row.texts()), executor));
+            }
+
+            List<Object[]> moderatedUpdates = new ArrayList<>(rows.size());
+            List<Object[]> neverModeratedUpdates = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                Row row = rows.get(i);
+                ModerationResult result = futures.get(i).join();
+                processed.incrementAndGet();
+                if (result.getLabel() == ModerationLabel.UNKNOWN) {
+                    // 판정을 받지 못한 행은 그대로 둔다 (restart로 다시 실행하면 이런 행만 다시 분류된다)
+                    failed.incrementAndGet();
+                    continue;
+                }
+                if (result.isHate()) {
+                    hateFound.incrementAndGet();
+                }
+                String status = (result.isHate() ? ModerationStatus.REJECTED : ModerationStatus.APPROVED).name();
+                Timestamp moderatedAt = Timestamp.valueOf(result.getModeratedAt());
+                if (row.moderatedAt() == null) {
+                    neverModeratedUpdates.add(new Object[] {
+                        status, result.getScore(), result.isScoreExact(), result.getLabel().name(), result.getModelVersion(), moderatedAt,
+                        row.id()
+                    });
+                } else {
+                    moderatedUpdates.add(new Object[] {
+                        status, result.getScore(), result.isScoreExact(), result.getLabel().name(), result.getModelVersion(), moderatedAt,
+                        row.id(), row.moderatedAt()
+                    });
+                }
+            }
+            applyUpdates(target, updateModerated, moderatedUpdates);
+            applyUpdates(target, updateNeverModerated, neverModeratedUpdates);
+
+            lastId = rows.get(rows.size() - 1).id();
+            checkpoint.setLastId(lastId);
+            checkpoint.setProcessed(checkpoint.getProcessed() + rows.size());
+            checkpointRepository.save(checkpoint);
+        }
+    }
+
+    // 영향받은 행이 없으면 읽은 뒤 수정/검출된 행이므로 건너뛴 것으로 센다
+    private void applyUpdates(Target target, String sql, List<Object[]> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, updates);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                skipped.incrementAndGet();
+                continue;
+            }
+            updated.incrementAndGet();
+            if (target.table().equals("post")) {
+                postResponseCache.invalidate((Long) updates.get(i)[ID_ARG]);
+            }
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger index = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "moderation-backfill-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public Map<String, Object> getProgress() {
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        double elapsedSeconds = startedNanos == 0 ? 0.0 : (end - startedNanos) / 1_000_000_000.0;
+
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("state", state.name());
+        progress.put("currentTable", currentTable);
+        progress.put("lastId", lastId);
+        progress.put("startedAt", startedAt);
+        progress.put("processed", processed.get());
+        progress.put("updated", updated.get());
+        progress.put("hateFound", hateFound.get());
+        progress.put("failed", failed.get());
+        progress.put("skipped", skipped.get());
+        progress.put("elapsedSeconds", Math.round(elapsedSeconds));
+        progress.put("itemsPerSecond", elapsedSeconds > 0 ? Math.round(processed.get() / elapsedSeconds * 10) / 10.0 : 0.0);
+        progress.put("lastError", lastError);
+
+        Map<String, Object> checkpoints = new LinkedHashMap<>();
+        for (ModerationBackfillCheckpoint checkpoint : checkpointRepository.findAll()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("lastId", checkpoint.getLastId());
+            item.put("processed", checkpoint.getProcessed());
+            item.put("completed", checkpoint.isCompleted());
+            item.put("modelVersion", checkpoint.getModelVersion());
+            item.put("updatedAt", checkpoint.getUpdatedAt());
+            checkpoints.put(checkpoint.getTableName(), item);
+        }
+        progress.put("checkpoints", checkpoints);
+        return progress;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stop();
+        Thread running = worker;
+        if (running != null) {
+            running.join(10_000);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.copoto.project.moderation;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 정규화 텍스트 해시 -> 분류 결과 캐시 (LRU + TTL)
+// 엔트리 개수 한도를 넘으면 오래된 항목부터 제거한다.
+// 키는 항상 SHA-256 hex(64자), 값은 고정 크기 verdict라 엔트리 크기가 일정하므로 메모리 한도는 따로 두지 않는다
+// (max-entries 50000 = 약 10MB).
+@Component
+public class ModerationCache {
+
+    // 엔트리 하나가 차지하는 대략적인 크기 (64-bit JVM, compressed oops 기준)
+    // map node 40 + 테이블 슬롯 8 + 키 String 24 + Latin-1 byte[] 16 + 64 + CachedVerdict 24 + ModerationVerdict 24
+    static final long ENTRY_BYTES = 200;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, CachedVerdict> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ModerationCache(
+        @Value("${moderation.cache.max-entries:50000}") int maxEntries,
+        @Value("${moderation.cache.ttl-minutes:60}") long ttlMinutes
+    ) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+    }
+
+    // 캐시에 없거나 만료된 경우 null
+    public synchronized ModerationVerdict get(String key) {
+        CachedVerdict cached = entries.get(key);
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (System.nanoTime() - cached.expiresAt() > 0) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached.verdict();
+    }
+
+    // AI 서버 장애로 받은 임시 결과는 캐시하지 않는다
+    public synchronized void put(String key, ModerationVerdict verdict) {
+        if (!verdict.isAvailable()) {
+            return;
+        }
+        entries.remove(key);
+        entries.put(key, new CachedVerdict(verdict, System.nanoTime() + ttlNanos));
+
+        Iterator<Map.Entry<String, CachedVerdict>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("bytes", entries.size() * ENTRY_BYTES); // 추정치
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        return stats;
+    }
+
+    private record CachedVerdict(ModerationVerdict verdict, long expiresAt) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.copoto.project.moderation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// AI 서버 호출 보호: 서킷 브레이커 + 벌크헤드
+// - 최근 window-size번의 호출 중 실패율 또는 느린 호출 비율이 임계값을 넘으면 OPEN (호출 차단)
+// - open-duration이 지나면 HALF_OPEN으로 전환해 half-open-probes번만 시험 호출을 허용
+// - 동시에 진행 중인 호출은 max-concurrent개로 제한 (초과 시 max-wait-ms만 기다린 후 포기)
+@Component
+public class ModerationCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(ModerationCircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final Semaphore bulkhead;
+    private final long bulkheadWaitMs;
+
+    // 최근 호출 결과 (원형 버퍼) - 0: 성공, 1: 실패, 2: 느린 성공
+    private final byte[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private final AtomicLong rejectedByBreaker = new AtomicLong();
+    private final AtomicLong rejectedByBulkhead = new AtomicLong();
+
+    public ModerationCircuitBreaker(
+        @Value("${moderation.breaker.window-size:50}") int windowSize,
+        @Value("${moderation.breaker.minimum-calls:10}") int minimumCalls,
+        @Value("${moderation.breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+        @Value("${moderation.breaker.slow-call-rate-threshold:0.8}") double slowCallRateThreshold,
+        @Value("${moderation.breaker.slow-call-ms:1500}") long slowCallMs,
+        @Value("${moderation.breaker.open-duration-ms:10000}") long openDurationMs,
+        @Value("${moderation.breaker.half-open-probes:3}") int halfOpenProbes,
+        @Value("${moderation.bulkhead.max-concurrent:16}") int maxConcurrent,
+        @Value("${moderation.bulkhead.max-wait-ms:50}") long bulkheadWaitMs
+    ) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.halfOpenProbes = halfOpenProbes;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.bulkheadWaitMs = bulkheadWaitMs;
+        this.outcomes = new byte[windowSize];
+    }
+
+    // call의 결과가 성공인지는 isSuccess로 판단 (AI 서버 오류는 예외 대신 unavailable 결과로 돌아오므로)
+    // 차단되면 fallback 값을 반환한다
+    public <T> T execute(Supplier<T> call, Predicate<T> isSuccess, T fallback) {
+        if (!tryAcquirePermission()) {
+            rejectedByBreaker.incrementAndGet();
+            return fallback;
+        }
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedByBulkhead.incrementAndGet();
+            releaseProbe();
+            return fallback;
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = isSuccess.test(result);
+            return result;
+        } finally {
+            bulkhead.release();
+            onResult(success, System.nanoTime() - start);
+        }
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    private synchronized void releaseProbe() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    private synchronized void onResult(boolean success, long elapsedNanos) {
+        boolean slow = elapsedNanos > slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (!success || slow) {
+                transitionTo(State.OPEN);
+            } else if (++probeSuccesses >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return; // OPEN 전환 전에 시작된 호출의 결과는 무시
+        }
+
+        recordOutcome(success ? (slow ? (byte) 2 : (byte) 0) : (byte) 1);
+        if (recordedCalls >= minimumCalls) {
+            double failureRate = (double) failedCalls / recordedCalls;
+            double slowRate = (double) slowCalls / recordedCalls;
+            if (failureRate >= failureRateThreshold || slowRate >= slowCallRateThreshold) {
+                log.warn("Moderation circuit opened (failure rate {}, slow call rate {})", failureRate, slowRate);
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void recordOutcome(byte outcome) {
+        if (recordedCalls == windowSize) {
+            forget(outcomes[outcomeIndex]);
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = outcome;
+        if (outcome == 1) {
+            failedCalls++;
+        } else if (outcome == 2) {
+            slowCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+    }
+
+    private void forget(byte outcome) {
+        if (outcome == 1) {
+            failedCalls--;
+        } else if (outcome == 2) {
+            slowCalls--;
+        }
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (next != State.HALF_OPEN) {
+            // CLOSED/OPEN으로 전환될 때 이전 통계는 초기화
+            outcomeIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+            slowCalls = 0;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("recordedCalls", recordedCalls);
+        stats.put("failedCalls", failedCalls);
+        stats.put("slowCalls", slowCalls);
+        stats.put("rejectedByBreaker", rejectedByBreaker.get());
+        stats.put("rejectedByBulkhead", rejectedByBulkhead.get());
+        stats.put("availableBulkheadPermits", bulkhead.availablePermits());
+        return stats;
+    }
+}
@@ -0,0 +1,130 @@
+package com.copoto.project.moderation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// 여러 요청 스레드의 분류 요청을 모아서 한 번의 배치 호출로 보내는 디스패처
+// window-ms 동안 기다리거나 max-size 개가 모이면(먼저 도달하는 쪽) 배치를 전송한다.
+@Component
+public class ModerationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ModerationDispatcher.class);
+
+    private final HateSpeechClassifier classifier;
+    private final ModerationCircuitBreaker circuitBreaker;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingText> queue;
+    private final ThreadPoolExecutor batchExecutor;
+    private Thread dispatcherThread;
+    private volatile boolean running = true;
+
+    public ModerationDispatcher(
+        HateSpeechClassifier classifier,
+        ModerationCircuitBreaker circuitBreaker,
+        @Value("${moderation.batch.window-ms:5}") long windowMs,
+        @Value("${moderation.batch.max-size:32}") int maxBatchSize,
+        @Value("${moderation.batch.queue-capacity:2048}") int queueCapacity,
+        @Value("${moderation.batch.workers:4}") int workers
+    ) {
+        this.classifier = classifier;
+        this.circuitBreaker = circuitBreaker;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        // 배치 전송 워커가 모두 바쁘면 디스패처 스레드가 직접 전송 (자연스러운 backpressure)
+        this.batchExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcherThread = new Thread(this::dispatchLoop, "moderation-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    // 분류 요청 등록 - 배치 결과가 나오면 호출자별 future가 개별적으로 완료된다
+    public CompletableFuture<ModerationVerdict> submit(String text) {
+        CompletableFuture<ModerationVerdict> future = new CompletableFuture<>();
+        if (!running || !queue.offer(new PendingText(text, future))) {
+            log.warn("Moderation queue is full, skipping classification");
+            future.complete(ModerationVerdict.unavailable());
+        }
+        return future;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PendingText first = queue.take();
+                List<PendingText> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingText next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                batchExecutor.execute(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void send(List<PendingText> batch) {
+        List<String> texts = batch.stream().map(PendingText::text).toList();
+        try {
+            // 분류기(AI 서버 또는 ONNX)가 과부하/장애 상태면 서킷 브레이커가 호출 없이 바로 unavailable을 돌려준다
+            List<ModerationVerdict> verdicts = circuitBreaker.execute(
+                () -> classifier.classifyBatch(texts),
+                results -> results.stream().allMatch(ModerationVerdict::isAvailable),
+                Collections.nCopies(texts.size(), ModerationVerdict.unavailable()));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(verdicts.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Moderation batch failed: {}", e.getMessage());
+            batch.forEach(pending -> pending.future().complete(ModerationVerdict.unavailable()));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+        // 아직 전송되지 않은 요청은 대기 중인 호출자가 멈추지 않도록 즉시 완료
+        List<PendingText> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future().complete(ModerationVerdict.unavailable()));
+        batchExecutor.shutdown();
+    }
+
+    private record PendingText(String text, CompletableFuture<ModerationVerdict> future) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.copoto.project.moderation;
+
+import java.time.LocalDateTime;
+
+import com.copoto.project.entity.ModerationLabel;
+
+// 콘텐츠 하나(제목+본문 등)에 대한 최종 혐오 검출 결과
+// Post/Comment의 moderation_* 컬럼에 그대로 저장된다.
+public class ModerationResult {
+
+    // 모델 대신 금칙어 사전/허용 규칙으로 판정한 경우의 모델 표기
+    public static final String LEXICON_MODEL = "lexicon";
+    public static final String ALLOW_LIST_MODEL = "allow-list";
+
+    private final ModerationLabel label;
+    private final Double score; // 혐오 확률 (UNKNOWN이면 null)
+    private final String modelVersion;
+    private final LocalDateTime moderatedAt;
+    // score가 텍스트 전체 조각 중 최댓값인지 - 아니면(한쪽 경계값) 임계값 변경 시 SQL로 재판정하지 않고 모델로 다시 분류한다
+    private final boolean scoreExact;
+
+    private ModerationResult(ModerationLabel label, Double score, String modelVersion, LocalDateTime moderatedAt, boolean scoreExact) {
+        this.label = label;
+        this.score = score;
+        this.modelVersion = modelVersion;
+        this.moderatedAt = moderatedAt;
+        this.scoreExact = scoreExact;
+    }
+
+    public static ModerationResult of(ModerationLabel label, Double score, String modelVersion) {
+        return new ModerationResult(label, score, modelVersion, LocalDateTime.now(), true);
+    }
+
+    // 혐오 조각을 찾고 나머지 조각을 기다리지 않은 경우 - score는 최댓값의 하한
+    public ModerationResult inexact() {
+        return new ModerationResult(label, score, modelVersion, moderatedAt, false);
+    }
+
+    // 수정 시 바뀐 문장만 검사한 경우, 기존 점수보다 낮게 기록되지 않도록 한다
+    // 기존 점수를 남기면 지워진 문장의 점수일 수 있으므로 최댓값의 상한으로 표시한다
+    public ModerationResult withMinimumScore(Double previousScore) {
+        if (previousScore == null || score == null || score >= previousScore) {
+            return this;
+        }
+        return new ModerationResult(label, previousScore, modelVersion, moderatedAt, false);
+    }
+
+    public boolean isHate() {
+        return label == ModerationLabel.HATE;
+    }
+
+    public ModerationLabel getLabel() {
+        return label;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    public LocalDateTime getModeratedAt() {
+        return moderatedAt;
+    }
+
+    public boolean isScoreExact() {
+        return scoreExact;
+    }
+}
@@ -0,0 +1,323 @@
+package com.copoto.project.moderation;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationSettings;
+import com.copoto.project.repository.CommentRepository;
+import com.copoto.project.repository.ModerationSettingsRepository;
+import com.copoto.project.repository.PostRepository;
+import com.copoto.project.service.PostResponseCache;
+
+import jakarta.annotation.PostConstruct;
+
+// 게시글/댓글 등 모든 혐오 발언 검사의 진입점
+@Service
+public class ModerationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ModerationService.class);
+
+    @Autowired
+    private ModerationDispatcher moderationDispatcher;
+
+    @Autowired
+    private ModerationCache moderationCache;
+
+    @Autowired
+    private LexiconPreFilter lexiconPreFilter;
+
+    @Autowired
+    private HateSpeechClassifier hateSpeechClassifier;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostResponseCache postResponseCache;
+
+    @Autowired
+    private ModerationSettingsRepository moderationSettingsRepository;
+
+    // 현재 분류 중인 텍스트 (정규화 해시 -> 결과 future)
+    private final ConcurrentHashMap<String, CompletableFuture<ModerationVerdict>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedRequests = new AtomicLong();
+
+    // 혐오 확률이 이 값 이상이면 혐오로 판정 (/api/moderation/threshold로 변경 가능)
+    // 변경된 값은 moderation_settings에 저장되고, 저장된 값이 있으면 설정 파일 값보다 우선한다
+    @Value("${moderation.threshold:0.5}")
+    private volatile double threshold;
+
+    // 마지막 임계값 변경 시각 - 저장된 노출 상태가 updated_at/moderated_at 변경 없이 바뀌므로 Last-Modified 계산에 포함
+    private volatile LocalDateTime thresholdChangedAt;
+
+    @Value("${moderation.wait-timeout-ms:3000}")
+    private long waitTimeoutMs;
+
+    // 긴 텍스트 분할 기준 (한국어 기준 약 128토큰 이하) / 요청 하나당 동시에 보내는 조각 수
+    @Value("${moderation.chunk.max-chars:150}")
+    private int chunkMaxChars;
+
+    @Value("${moderation.chunk.max-parallel:8}")
+    private int chunkMaxParallel;
+
+    // AI 서버 판정을 받지 못했을 때의 정책 (open: 통과, closed: 거부)
+    @Value("${moderation.fail-policy.post:open}")
+    private String postFailPolicy;
+
+    @Value("${moderation.fail-policy.comment:open}")
+    private String commentFailPolicy;
+
+    // 여러 텍스트 중 하나라도 혐오 발언이면 true
+    public boolean isHateSpeech(ContentType contentType, String... texts) {
+        return moderate(contentType, texts).isHate();
+    }
+
+    // 여러 텍스트(제목+본문 등)를 하나의 결과로 판정
+    // 판정을 받지 못한 텍스트가 있으면 콘텐츠 종류별 fail-open(UNKNOWN으로 통과)/fail-closed(예외) 정책을 따른다
+    public ModerationResult moderate(ContentType contentType, String... texts) {
+        ModerationResult result = evaluate(texts);
+        if (result.getLabel() == ModerationLabel.UNKNOWN && !isFailOpen(contentType)) {
+            throw new ModerationUnavailableException(contentType);
+        }
+        return result;
+    }
+
+    // 수정된 콘텐츠 검사: 이전 내용(이미 검사를 통과한 내용)에 없던 문장만 모델에 보낸다
+    // previousTexts가 비어 있으면(이전 내용을 신뢰할 수 없으면) 새 내용 전체를 검사한다
+    // 바뀐 문장이 없으면 빈 값을 반환한다 (기존 판정 유지)
+    public Optional<ModerationResult> moderateEdit(ContentType contentType, List<String> previousTexts, String... texts) {
+        Set<String> unchanged = new HashSet<>();
+        for (String previous : previousTexts) {
+            if (previous != null) {
+                SentenceChunker.sentences(previous).forEach(sentence -> unchanged.add(TextNormalizer.normalize(sentence)));
+            }
+        }
+
+        List<String> changed = new ArrayList<>();
+        int total = 0;
+        int changedCount = 0;
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            StringBuilder changedPart = new StringBuilder();
+            for (String sentence : SentenceChunker.sentences(text)) {
+                total++;
+                if (!unchanged.contains(TextNormalizer.normalize(sentence))) {
+                    changedCount++;
+                    changedPart.append(sentence).append('\n');
+                }
+            }
+            if (changedPart.length() > 0) {
+                changed.add(changedPart.toString().strip());
+            }
+        }
+        log.debug("Edit moderation: {} of {} sentences changed", changedCount, total);
+        if (changed.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(moderate(contentType, changed.toArray(String[]::new)));
+    }
+
+    private boolean isFailOpen(ContentType contentType) {
+        String policy = contentType == ContentType.POST ? postFailPolicy : commentFailPolicy;
+        return !"closed".equalsIgnoreCase(policy.trim());
+    }
+
+    // 여러 텍스트를 하나의 결과로 합친다
+    // - 혐오 확률이 임계값 이상인 조각이 하나라도 있으면 HATE (나머지 조각은 기다리지 않음 - 점수는 최댓값의 하한)
+    // - 판정을 받지 못한 조각이 있으면 UNKNOWN
+    // - 그 외에는 CLEAN (점수는 조각 중 최댓값)
+    public ModerationResult evaluate(String... texts) {
+        return evaluate(true, texts);
+    }
+
+    // 재검출(backfill)용 - 혐오 조각을 찾아도 나머지 조각까지 분류해 점수를 최댓값으로 기록한다
+    public ModerationResult evaluateFully(String... texts) {
+        return evaluate(false, texts);
+    }
+
+    private ModerationResult evaluate(boolean stopAtHate, String... texts) {
+        // 금칙어 사전으로 판정 가능한 텍스트는 모델에 보내지 않는다
+        List<String> chunks = new ArrayList<>();
+        for (String text : texts) {
+            LexiconPreFilter.Decision decision = lexiconPreFilter.check(text);
+            if (decision == LexiconPreFilter.Decision.BLOCK) {
+                return ModerationResult.of(ModerationLabel.HATE, 1.0, ModerationResult.LEXICON_MODEL);
+            }
+            if (decision == LexiconPreFilter.Decision.UNKNOWN) {
+                // 모델은 앞부분 128토큰만 보므로 긴 본문은 문장 단위 조각으로 나눠 전체를 검사한다
+                chunks.addAll(SentenceChunker.chunk(text, chunkMaxChars));
+            }
+        }
+        if (chunks.isEmpty()) {
+            return ModerationResult.of(ModerationLabel.CLEAN, 0.0, ModerationResult.ALLOW_LIST_MODEL);
+        }
+        return scatterGather(chunks, stopAtHate);
+    }
+
+    // 조각들을 최대 chunkMaxParallel개씩 동시에 보내고(디스패처가 다른 요청과 함께 배치로 묶는다),
+    // 완료되는 순서대로 확인하다가 혐오 조각이 나오면 바로 반환한다 (stopAtHate=false면 끝까지 모은다).
+    private ModerationResult scatterGather(List<String> chunks, boolean stopAtHate) {
+        String model = hateSpeechClassifier.getModelVersion();
+        double currentThreshold = threshold;
+        BlockingQueue<ModerationVerdict> completed = new LinkedBlockingQueue<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        int next = 0;
+        int pending = 0;
+        boolean allAvailable = true;
+        double maxHateProbability = 0.0;
+
+        while (next < chunks.size() || pending > 0) {
+            while (next < chunks.size() && pending < chunkMaxParallel) {
+                classifyAsync(chunks.get(next++))
+                    .whenComplete((verdict, e) -> completed.offer(verdict != null ? verdict : ModerationVerdict.unavailable()));
+                pending++;
+            }
+
+            ModerationVerdict verdict;
+            try {
+                verdict = completed.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                allAvailable = false;
+                break;
+            }
+            if (verdict == null) {
+                log.warn("Moderation timed out after {}ms ({} of {} chunks pending)", waitTimeoutMs, pending + chunks.size() - next, chunks.size());
+                allAvailable = false;
+                break;
+            }
+            pending--;
+
+            if (!verdict.isAvailable()) {
+                allAvailable = false;
+                continue;
+            }
+            maxHateProbability = Math.max(maxHateProbability, verdict.getHateProbability());
+            if (stopAtHate && maxHateProbability >= currentThreshold) {
+                ModerationResult hate = ModerationResult.of(ModerationLabel.HATE, maxHateProbability, model);
+                return next < chunks.size() || pending > 0 ? hate.inexact() : hate;
+            }
+        }
+        if (maxHateProbability >= currentThreshold) {
+            // 판정을 받지 못한(시간 초과 포함) 조각이 있어도 혐오 조각이 있으면 혐오 (점수는 받은 조각 중 최댓값)
+            ModerationResult hate = ModerationResult.of(ModerationLabel.HATE, maxHateProbability, model);
+            return allAvailable ? hate : hate.inexact();
+        }
+        return allAvailable
+            ? ModerationResult.of(ModerationLabel.CLEAN, maxHateProbability, model)
+            : ModerationResult.of(ModerationLabel.UNKNOWN, null, model);
+    }
+
+    // 시작 시, 그리고 주기적으로 저장된 임계값을 읽는다 (다른 서버에서 변경한 값도 반영)
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${moderation.settings.refresh-interval-ms:60000}")
+    public void loadSettings() {
+        moderationSettingsRepository.findById(ModerationSettings.DEFAULT_ID).ifPresent(settings -> {
+            if (settings.getThreshold() == threshold && Objects.equals(settings.getThresholdChangedAt(), thresholdChangedAt)) {
+                return;
+            }
+            threshold = settings.getThreshold();
+            thresholdChangedAt = settings.getThresholdChangedAt();
+            postResponseCache.clear(); // 다른 서버에서 노출 상태를 다시 계산했다
+            log.info("Moderation threshold loaded: {} (changed at {})", threshold, thresholdChangedAt);
+        });
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public LocalDateTime getThresholdChangedAt() {
+        return thresholdChangedAt;
+    }
+
+    // 혐오 판정 임계값 변경 - 이미 저장된 게시글/댓글은 저장된 점수로 SQL에서 다시 판정한다 (모델 호출 없음)
+    public Map<String, Object> changeThreshold(double newThreshold) {
+        if (newThreshold <= 0.0 || newThreshold > 1.0) {
+            throw new IllegalArgumentException("Threshold must be in (0, 1]");
+        }
+        ModerationSettings settings = moderationSettingsRepository.findById(ModerationSettings.DEFAULT_ID)
+            .orElseGet(ModerationSettings::new);
+        settings.setThreshold(newThreshold);
+        // Last-Modified와 같은 초 단위로 저장 (DB 컬럼 정밀도와 관계없이 다른 서버가 읽는 값과 같도록)
+        settings.setThresholdChangedAt(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        moderationSettingsRepository.save(settings);
+        this.threshold = newThreshold;
+        this.thresholdChangedAt = settings.getThresholdChangedAt();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threshold", newThreshold);
+        result.put("posts", postRepository.reapplyThreshold(newThreshold));
+        result.put("comments", commentRepository.reapplyThreshold(newThreshold));
+        // 점수가 경계값이라 SQL로 다시 판정할 수 없는 행 - 모델로 다시 분류해야 한다 (ModerationBackfillJob이 대상에 포함)
+        result.put("needsReclassification",
+            postRepository.countNeedingReclassification(newThreshold) + commentRepository.countNeedingReclassification(newThreshold));
+        postResponseCache.clear(); // 노출 상태가 바뀐 글이 있을 수 있다
+        log.info("Moderation threshold changed to {} ({})", newThreshold, result);
+        return result;
+    }
+
+    // 같은 내용(정규화 기준)은 캐시된 결과를 재사용하고, 없을 때만 모델에 보낸다
+    // 같은 내용이 이미 분류 중이면(스팸 댓글 등) 새로 보내지 않고 진행 중인 future를 함께 기다린다 (singleflight)
+    private CompletableFuture<ModerationVerdict> classifyAsync(String text) {
+        String key = TextNormalizer.hash(text);
+        ModerationVerdict cached = moderationCache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<ModerationVerdict> flight = new CompletableFuture<>();
+        CompletableFuture<ModerationVerdict> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedRequests.incrementAndGet();
+            return existing;
+        }
+        moderationDispatcher.submit(text)
+            .whenComplete((verdict, e) -> {
+                // 캐시에 먼저 넣은 뒤 in-flight에서 제거해야 그 사이에 들어온 요청이 중복 전송되지 않는다
+                if (verdict != null) {
+                    moderationCache.put(key, verdict);
+                }
+                inFlight.remove(key, flight);
+                if (e != null) {
+                    flight.completeExceptionally(e);
+                } else {
+                    flight.complete(verdict);
+                }
+            });
+        return flight;
+    }
+
+    public Map<String, Object> getSingleflightStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlight", inFlight.size());
+        stats.put("coalesced", coalescedRequests.get());
+        return stats;
+    }
+}
@@ -0,0 +1,9 @@
+package com.copoto.project.moderation;
+
+// fail-closed 정책에서 AI 서버 판정을 받지 못했을 때 발생
+public class ModerationUnavailableException extends RuntimeException {
+
+    public ModerationUnavailableException(ContentType contentType) {
+        super("혐오 발언 검출 서비스를 일시적으로 사용할 수 없습니다. (" + contentType.name().toLowerCase() + ")");
+    }
+}
@@ -0,0 +1,52 @@
+package com.copoto.project.moderation;
+
+import java.util.Map;
+
+// AI 서버의 혐오 발언 분류 결과 (is_hate + probability.hate)
+public class ModerationVerdict {
+
+    private static final ModerationVerdict UNAVAILABLE = new ModerationVerdict(false, 0.0, false);
+
+    private final boolean hate;
+    private final double hateProbability;
+    private final boolean available; // AI 서버 장애 등으로 판정을 받지 못한 경우 false
+
+    private ModerationVerdict(boolean hate, double hateProbability, boolean available) {
+        this.hate = hate;
+        this.hateProbability = hateProbability;
+        this.available = available;
+    }
+
+    public static ModerationVerdict of(boolean hate, double hateProbability) {
+        return new ModerationVerdict(hate, hateProbability, true);
+    }
+
+    public static ModerationVerdict unavailable() {
+        return UNAVAILABLE;
+    }
+
+    // Flask /predict 응답 형식: {"is_hate": 0|1, "probability": {"not_hate": .., "hate": ..}}
+    public static ModerationVerdict fromResponse(Map<String, Object> result) {
+        if (result == null || !(result.get("is_hate") instanceof Number isHate)) {
+            return UNAVAILABLE;
+        }
+        double hateProbability = isHate.intValue() == 1 ? 1.0 : 0.0;
+        if (result.get("probability") instanceof Map<?, ?> probability
+                && probability.get("hate") instanceof Number hate) {
+            hateProbability = hate.doubleValue();
+        }
+        return of(isHate.intValue() == 1, hateProbability);
+    }
+
+    public boolean isHate() {
+        return hate;
+    }
+
+    public double getHateProbability() {
+        return hateProbability;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
@@ -0,0 +1,128 @@
+package com.copoto.project.moderation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import jakarta.annotation.PreDestroy;
+
+// JVM 안에서 KcELECTRA 모델을 ONNX Runtime(CPU)으로 직접 실행하는 분류기 (moderation.backend=onnx)
+// LoRA를 병합해 내보낸 model.onnx와 vocab.txt가 필요하다 (ai/export_onnx.py로 생성).
+// Flask 서버 없이 동작하므로 네트워크 왕복과 Python 프로세스가 필요 없다.
+@Component
+@ConditionalOnProperty(name = "moderation.backend", havingValue = "onnx")
+public class OnnxHateSpeechClassifier implements HateSpeechClassifier {
+
+    private static final Logger log = LoggerFactory.getLogger(OnnxHateSpeechClassifier.class);
+
+    private final OrtEnvironment environment;
+    private final OrtSession session;
+    private final WordPieceTokenizer tokenizer;
+    private final int maxLength;
+    private final boolean hasTokenTypeIds;
+    private final String modelVersion;
+
+    public OnnxHateSpeechClassifier(
+        @Value("${moderation.onnx.model-dir:../../ai/KcELECTRA/final_kcelectra_onnx}") String modelDir,
+        @Value("${moderation.onnx.max-length:128}") int maxLength,
+        @Value("${moderation.onnx.intra-op-threads:2}") int intraOpThreads,
+        @Value("${moderation.model-version:KcELECTRA/final_kcelectra_onnx}") String modelVersion
+    ) throws IOException, OrtException {
+        Path dir = Path.of(modelDir);
+        this.tokenizer = new WordPieceTokenizer(dir.resolve("vocab.txt"));
+        this.maxLength = maxLength;
+        this.modelVersion = modelVersion;
+        this.environment = OrtEnvironment.getEnvironment();
+
+        // 요청 스레드(배치 워커)가 여러 개이므로 세션 하나당 연산 스레드 수는 작게 유지
+        try (OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+            options.setIntraOpNumThreads(intraOpThreads);
+            options.setInterOpNumThreads(1);
+            options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+            this.session = environment.createSession(dir.resolve("model.onnx").toString(), options);
+        }
+        this.hasTokenTypeIds = session.getInputNames().contains("token_type_ids");
+        log.info("ONNX hate speech model loaded from {} (intra-op threads: {})", dir.toAbsolutePath(), intraOpThreads);
+    }
+
+    @Override
+    public ModerationVerdict classify(String text) {
+        return classifyBatch(List.of(text)).get(0);
+    }
+
+    // 배치 내 가장 긴 문장 길이에 맞춰 패딩한 뒤 한 번의 forward pass로 추론 (app.py의 predict_batch와 동일)
+    @Override
+    public List<ModerationVerdict> classifyBatch(List<String> texts) {
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] encoded = new int[texts.size()][];
+        int sequenceLength = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            encoded[i] = tokenizer.encode(texts.get(i), maxLength);
+            sequenceLength = Math.max(sequenceLength, encoded[i].length);
+        }
+
+        long[][] inputIds = new long[texts.size()][sequenceLength];
+        long[][] attentionMask = new long[texts.size()][sequenceLength];
+        for (int i = 0; i < encoded.length; i++) {
+            for (int j = 0; j < sequenceLength; j++) {
+                boolean token = j < encoded[i].length;
+                inputIds[i][j] = token ? encoded[i][j] : tokenizer.getPadId();
+                attentionMask[i][j] = token ? 1 : 0;
+            }
+        }
+
+        try (OnnxTensor ids = OnnxTensor.createTensor(environment, inputIds);
+             OnnxTensor mask = OnnxTensor.createTensor(environment, attentionMask);
+             OnnxTensor typeIds = OnnxTensor.createTensor(environment, new long[texts.size()][sequenceLength])) {
+            Map<String, OnnxTensor> inputs = hasTokenTypeIds
+                ? Map.of("input_ids", ids, "attention_mask", mask, "token_type_ids", typeIds)
+                : Map.of("input_ids", ids, "attention_mask", mask);
+            try (OrtSession.Result result = session.run(inputs)) {
+                float[][] logits = (float[][]) result.get(0).getValue();
+                List<ModerationVerdict> verdicts = new ArrayList<>(logits.length);
+                for (float[] row : logits) {
+                    verdicts.add(toVerdict(row));
+                }
+                return verdicts;
+            }
+        } catch (OrtException | RuntimeException e) {
+            log.warn("ONNX hate speech inference failed: {}", e.getMessage());
+            return Collections.nCopies(texts.size(), ModerationVerdict.unavailable());
+        }
+    }
+
+    @Override
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    // logits [not_hate, hate] -> softmax 확률
+    private static ModerationVerdict toVerdict(float[] logits) {
+        double max = Math.max(logits[0], logits[1]);
+        double notHate = Math.exp(logits[0] - max);
+        double hate = Math.exp(logits[1] - max);
+        double hateProbability = hate / (notHate + hate);
+        return ModerationVerdict.of(logits[1] > logits[0], hateProbability);
+    }
+
+    @PreDestroy
+    public void close() throws OrtException {
+        session.close();
+    }
+}
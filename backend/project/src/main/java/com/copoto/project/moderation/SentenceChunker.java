@@ -0,0 +1,82 @@
+package com.copoto.project.moderation;
+
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 긴 텍스트를 모델 입력 길이(max_length=128 토큰) 안에 들어가는 조각으로 나누는 유틸
+// 줄바꿈/문장 경계를 기준으로 maxChars 이하가 되도록 문장을 이어 붙이고,
+// 한 문장이 maxChars보다 길면 공백 위치에서(없으면 그대로) 자른다.
+public final class SentenceChunker {
+
+    private SentenceChunker() {
+    }
+
+    public static List<String> chunk(String text, int maxChars) {
+        List<String> chunks = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return chunks;
+        }
+        if (text.length() <= maxChars) {
+            chunks.add(text);
+            return chunks;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (String sentence : sentences(text)) {
+            for (String piece : splitLongSentence(sentence, maxChars)) {
+                if (current.length() > 0 && current.length() + 1 + piece.length() > maxChars) {
+                    chunks.add(current.toString());
+                    current.setLength(0);
+                }
+                if (current.length() > 0) {
+                    current.append(' ');
+                }
+                current.append(piece);
+            }
+        }
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    // 줄바꿈/문장 경계 기준으로 나눈 문장 목록 (앞뒤 공백 제거, 빈 문장 제외)
+    public static List<String> sentences(String text) {
+        List<String> sentences = new ArrayList<>();
+        BreakIterator iterator = BreakIterator.getSentenceInstance(Locale.KOREAN);
+        for (String line : text.split("\\R")) {
+            iterator.setText(line);
+            int start = iterator.first();
+            for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+                String sentence = line.substring(start, end).strip();
+                if (!sentence.isEmpty()) {
+                    sentences.add(sentence);
+                }
+            }
+        }
+        return sentences;
+    }
+
+    private static List<String> splitLongSentence(String sentence, int maxChars) {
+        List<String> pieces = new ArrayList<>();
+        String rest = sentence;
+        while (rest.length() > maxChars) {
+            int cut = rest.lastIndexOf(' ', maxChars);
+            if (cut <= 0) {
+                cut = maxChars;
+                // 서로게이트 쌍(이모지 등) 중간에서 자르지 않도록 (maxChars가 1이면 쌍 전체를 한 조각으로)
+                if (Character.isHighSurrogate(rest.charAt(cut - 1))) {
+                    cut = cut > 1 ? cut - 1 : cut + 1;
+                }
+            }
+            pieces.add(rest.substring(0, cut).strip());
+            rest = rest.substring(cut).strip();
+        }
+        if (!rest.isEmpty()) {
+            pieces.add(rest);
+        }
+        return pieces;
+    }
+}
@@ -0,0 +1,94 @@
+package com.copoto.project.moderation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 같은 내용의 텍스트를 같은 키로 묶기 위한 정규화 유틸
+public final class TextNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_LETTERS = Pattern.compile("[^\\p{L}]+");
+    private static final String LEET_FROM = "013457@$!";
+    private static final String LEET_TO = "oieastasi";
+
+    private TextNormalizer() {
+    }
+
+    // Unicode NFC + 앞뒤 공백 제거 + 연속 공백 하나로 + 소문자
+    public static String normalize(String text) {
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(nfc.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    // 금칙어 사전 매칭용 접기(folding)
+    // NFKC + 소문자 + 흔한 숫자/기호 치환(0->o, 1->i, @->a ...) 후 NFKD로 한글 음절을 자모로 분해하고,
+    // 글자가 아닌 문자(공백, 기호, 이모지)는 모두 제거한다. 단어 경계가 사라지므로 사전 패턴이나 단어 하나를 접을 때 쓴다.
+    public static String foldForLexicon(String text) {
+        return foldLetters(substituteLeet(text));
+    }
+
+    // 금칙어 매칭용 단어 목록
+    // 기호 치환 후 글자가 아닌 문자를 기준으로 단어를 나누고 각 단어를 접는다.
+    // "씨 발", "f.u.c.k"처럼 한 글자짜리 단어가 연속된 구간만 하나의 단어로 붙인다 (띄어 쓰기로 회피하는 경우).
+    // "아저씨 발이"처럼 여러 글자 단어 사이의 경계는 유지한다.
+    public static List<String> lexiconTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder singles = new StringBuilder();
+        for (String word : NON_LETTERS.split(substituteLeet(text))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.codePointCount(0, word.length()) == 1) {
+                singles.append(word);
+                continue;
+            }
+            if (!singles.isEmpty()) {
+                tokens.add(foldLetters(singles));
+                singles.setLength(0);
+            }
+            tokens.add(foldLetters(word));
+        }
+        if (!singles.isEmpty()) {
+            tokens.add(foldLetters(singles));
+        }
+        tokens.removeIf(String::isEmpty);
+        return tokens;
+    }
+
+    private static String substituteLeet(String text) {
+        String compat = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder substituted = new StringBuilder(compat.length());
+        for (int i = 0; i < compat.length(); i++) {
+            char c = compat.charAt(i);
+            int index = LEET_FROM.indexOf(c);
+            substituted.append(index >= 0 ? LEET_TO.charAt(index) : c);
+        }
+        return substituted.toString();
+    }
+
+    private static String foldLetters(CharSequence text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        decomposed.codePoints()
+            .filter(Character::isLetter)
+            .forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+
+    // 정규화된 텍스트의 SHA-256 해시 (hex)
+    public static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalize(text).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.copoto.project.moderation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// KcELECTRA(BertTokenizer, do_lower_case=false)와 같은 결과를 내는 WordPiece 토크나이저
+// BasicTokenizer(제어문자 제거, NFC, 한자 분리, 공백/구두점 분리) 후 vocab.txt 기준 greedy longest-match로 쪼갠다.
+public class WordPieceTokenizer {
+
+    private static final String UNK = "[UNK]";
+    private static final String CLS = "[CLS]";
+    private static final String SEP = "[SEP]";
+    private static final String PAD = "[PAD]";
+    private static final int MAX_CHARS_PER_WORD = 100;
+
+    private final Map<String, Integer> vocab;
+    private final int unkId;
+    private final int clsId;
+    private final int sepId;
+    private final int padId;
+
+    public WordPieceTokenizer(Path vocabPath) throws IOException {
+        List<String> lines = Files.readAllLines(vocabPath, StandardCharsets.UTF_8);
+        this.vocab = new HashMap<>(lines.size() * 2);
+        for (int i = 0; i < lines.size(); i++) {
+            vocab.putIfAbsent(lines.get(i).strip(), i);
+        }
+        this.unkId = requireToken(UNK);
+        this.clsId = requireToken(CLS);
+        this.sepId = requireToken(SEP);
+        this.padId = requireToken(PAD);
+    }
+
+    private int requireToken(String token) {
+        Integer id = vocab.get(token);
+        if (id == null) {
+            throw new IllegalArgumentException("Vocab is missing special token " + token);
+        }
+        return id;
+    }
+
+    public int getPadId() {
+        return padId;
+    }
+
+    // [CLS] 토큰들 [SEP] 형태의 id 배열 (maxLength를 넘으면 뒤를 자른다)
+    public int[] encode(String text, int maxLength) {
+        List<Integer> pieces = new ArrayList<>();
+        for (String word : basicTokenize(text)) {
+            wordPiece(word, pieces);
+            if (pieces.size() >= maxLength - 2) {
+                break;
+            }
+        }
+        int length = Math.min(pieces.size(), maxLength - 2);
+        int[] ids = new int[length + 2];
+        ids[0] = clsId;
+        for (int i = 0; i < length; i++) {
+            ids[i + 1] = pieces.get(i);
+        }
+        ids[length + 1] = sepId;
+        return ids;
+    }
+
+    private List<String> basicTokenize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        List<String> words = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (cp == 0 || cp == 0xFFFD || isControl(cp)) {
+                continue;
+            }
+            if (isWhitespace(cp)) {
+                flush(current, words);
+            } else if (isPunctuation(cp) || isChineseChar(cp)) {
+                flush(current, words);
+                words.add(new String(Character.toChars(cp)));
+            } else {
+                current.appendCodePoint(cp);
+            }
+        }
+        flush(current, words);
+        return words;
+    }
+
+    private static void flush(StringBuilder current, List<String> words) {
+        if (current.length() > 0) {
+            words.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    private void wordPiece(String word, List<Integer> out) {
+        if (word.codePointCount(0, word.length()) > MAX_CHARS_PER_WORD) {
+            out.add(unkId);
+            return;
+        }
+        List<Integer> subTokens = new ArrayList<>();
+        int start = 0;
+        while (start < word.length()) {
+            int end = word.length();
+            Integer matched = null;
+            while (start < end) {
+                String sub = word.substring(start, end);
+                if (start > 0) {
+                    sub = "##" + sub;
+                }
+                matched = vocab.get(sub);
+                if (matched != null) {
+                    break;
+                }
+                end = word.offsetByCodePoints(end, -1);
+            }
+            if (matched == null) {
+                // 단어의 일부라도 사전에 없으면 단어 전체를 [UNK]로 처리 (HuggingFace와 동일)
+                out.add(unkId);
+                return;
+            }
+            subTokens.add(matched);
+            start = end;
+        }
+        out.addAll(subTokens);
+    }
+
+    private static boolean isWhitespace(int cp) {
+        return cp == ' ' || cp == '\t' || cp == '\n' || cp == '\r' || Character.getType(cp) == Character.SPACE_SEPARATOR;
+    }
+
+    private static boolean isControl(int cp) {
+        if (cp == '\t' || cp == '\n' || cp == '\r') {
+            return false;
+        }
+        int type = Character.getType(cp);
+        return type == Character.CONTROL || type == Character.FORMAT;
+    }
+
+    private static boolean isPunctuation(int cp) {
+        if ((cp >= 33 && cp <= 47) || (cp >= 58 && cp <= 64) || (cp >= 91 && cp <= 96) || (cp >= 123 && cp <= 126)) {
+            return true;
+        }
+        return switch (Character.getType(cp)) {
+            case Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+                Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+                Character.OTHER_PUNCTUATION -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isChineseChar(int cp) {
+        return (cp >= 0x4E00 && cp <= 0x9FFF)
+            || (cp >= 0x3400 && cp <= 0x4DBF)
+            || (cp >= 0x20000 && cp <= 0x2A6DF)
+            || (cp >= 0x2A700 && cp <= 0x2B73F)
+            || (cp >= 0x2B740 && cp <= 0x2B81F)
+            || (cp >= 0x2B820 && cp <= 0x2CEAF)
+            || (cp >= 0xF900 && cp <= 0xFAFF)
+            || (cp >= 0x2F800 && cp <= 0x2FA1F);
+    }
+}
@@ -1,10 +1,93 @@
 package com.copoto.project.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.copoto.project.dto.CommentThreadVersion;
 import com.copoto.project.entity.Comment;
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationStatus;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 혐오 검출을 통과하지 못한 댓글은 작성자 본인(viewerId)에게만 포함
+    String VISIBLE_TO_VIEWER = "(c.moderationStatus is null or c.moderationStatus = com.copoto.project.entity.ModerationStatus.APPROVED or c.user.id = :viewerId) ";
+
+    // 게시글 댓글 목록 - (post_id, created_at) 인덱스 범위만 읽는다, 정렬/페이지는 Pageable로
+    @Query("select c from Comment c where c.post.postId = :postId and " + VISIBLE_TO_VIEWER)
+    Slice<Comment> findVisibleByPost(@Param("postId") Long postId, @Param("viewerId") String viewerId, Pageable pageable);
+
+    // 게시글 댓글 전체 (페이지 파라미터 없는 기존 호출용)
+    @Query("select c from Comment c where c.post.postId = :postId and " + VISIBLE_TO_VIEWER)
+    List<Comment> findVisibleByPost(@Param("postId") Long postId, @Param("viewerId") String viewerId, Sort sort);
+
+    // 유저별 댓글 목록 - (user_id, created_at) 인덱스 범위만 읽는다, 정렬/페이지는 Pageable로
+    @Query("select c from Comment c where c.user.id = :userId and " + VISIBLE_TO_VIEWER)
+    Slice<Comment> findVisibleByUser(@Param("userId") String userId, @Param("viewerId") String viewerId, Pageable pageable);
+
+    // 유저별 댓글 전체 (페이지 파라미터 없는 기존 호출용)
+    @Query("select c from Comment c where c.user.id = :userId and " + VISIBLE_TO_VIEWER)
+    List<Comment> findVisibleByUser(@Param("userId") String userId, @Param("viewerId") String viewerId, Sort sort);
+
+    // keyset(cursor) 댓글 목록 - (post_id, created_at) 인덱스에서 커서 다음 댓글부터 작성순으로
+    @Query("select c from Comment c where c.post.postId = :postId and c.createdAt >= :createdAt and (c.createdAt > :createdAt or c.id > :commentId) "
+        + "and " + VISIBLE_TO_VIEWER + "order by c.createdAt asc, c.id asc")
+    Slice<Comment> findVisibleByPostAfter(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+        @Param("commentId") Long commentId, @Param("viewerId") String viewerId, Pageable pageable);
+
+    // 조건부 조회용 댓글 목록 버전 - 댓글 본문은 읽지 않고 집계만 (댓글이 없으면 count 0, 나머지 null)
+    @Query("select new com.copoto.project.dto.CommentThreadVersion(count(c.id), max(c.id), max(c.updatedAt), max(c.moderatedAt)) "
+        + "from Comment c where c.post.postId = :postId")
+    CommentThreadVersion findThreadVersion(@Param("postId") Long postId);
+
+    // 삭제된 행 수 반환 - 동시에 같은 댓글을 삭제해도 댓글 수는 한 번만 줄인다
+    @Modifying
+    @Transactional
+    @Query("delete from Comment c where c.id = :commentId")
+    int deleteComment(@Param("commentId") Long commentId);
+
+    // 검출 대기(PENDING) 상태로 오래 남아 있는 행 - 서버 종료/장애로 큐에서 사라진 작업을 다시 넣을 때 사용 (id 순서)
+    @Query("select c from Comment c where c.moderationStatus = com.copoto.project.entity.ModerationStatus.PENDING "
+        + "and c.updatedAt < :before and c.id > :afterId order by c.id")
+    List<Comment> findStalePending(@Param("before") LocalDateTime before, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 비동기 혐오 검출 결과 반영 (엔티티를 다시 읽지 않고 상태/판정 컬럼만 갱신, 수정 시각은 그대로)
+    // 아직 PENDING인 행만 - 그 사이 동기 경로로 수정/판정된 행은 덮어쓰지 않는다
+    @Modifying
+    @Transactional
+    @Query("update Comment c set c.moderationStatus = :status, c.moderationScore = :score, c.moderationScoreExact = :scoreExact, "
+        + "c.moderationVerdict = :verdict, c.moderationModel = :model, c.moderatedAt = :moderatedAt, c.updatedAt = c.updatedAt where c.id = :commentId "
+        + "and c.moderationStatus = com.copoto.project.entity.ModerationStatus.PENDING")
+    int updateModeration(@Param("commentId") Long commentId, @Param("status") ModerationStatus status,
+        @Param("score") Double score, @Param("scoreExact") boolean scoreExact, @Param("verdict") ModerationLabel verdict,
+        @Param("model") String model, @Param("moderatedAt") LocalDateTime moderatedAt);
+
+    // 임계값 변경 시 저장된 점수만으로 판정/노출 상태를 다시 계산 (모델 호출 없음)
+    // 점수가 없는(판정을 받지 못한) 행, 아직 검출 중인 PENDING 행, 점수가 최댓값이 아닌(경계값인) 행은 건드리지 않는다
+    // updated_at = updated_at: ON UPDATE CURRENT_TIMESTAMP 컬럼이어도 재판정이 수정 시각(ETag/Last-Modified)을 바꾸지 않도록
+    @Modifying
+    @Transactional
+    @Query(value = "update comment set "
+        + "moderation_verdict = case when moderation_score >= :threshold then 'HATE' else 'CLEAN' end, "
+        + "moderation_status = case when moderation_score >= :threshold then 'REJECTED' else 'APPROVED' end, "
+        + "updated_at = updated_at "
+        + "where moderation_score is not null and moderation_score_exact = true and moderation_status <> 'PENDING'", nativeQuery = true)
+    int reapplyThreshold(@Param("threshold") double threshold);
+
+    // 점수가 경계값이라 새 임계값에서 판정이 바뀔 수 있는 행 수 (혐오 판정의 하한이 임계값 미만, 통과 판정의 상한이 임계값 이상)
+    @Query(value = "select count(*) from comment where moderation_score_exact = false and moderation_status <> 'PENDING' "
+        + "and ((moderation_verdict = 'HATE' and moderation_score < :threshold) "
+        + "or (moderation_verdict = 'CLEAN' and moderation_score >= :threshold))", nativeQuery = true)
+    long countNeedingReclassification(@Param("threshold") double threshold);
 }
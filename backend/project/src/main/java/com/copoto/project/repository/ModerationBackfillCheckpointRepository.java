@@ -0,0 +1,10 @@
+package com.copoto.project.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.copoto.project.entity.ModerationBackfillCheckpoint;
+
+@Repository
+public interface ModerationBackfillCheckpointRepository extends JpaRepository<ModerationBackfillCheckpoint, String> {
+}
@@ -0,0 +1,10 @@
+package com.copoto.project.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.copoto.project.entity.ModerationSettings;
+
+@Repository
+public interface ModerationSettingsRepository extends JpaRepository<ModerationSettings, String> {
+}
@@ -1,12 +1,112 @@
 package com.copoto.project.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.copoto.project.dto.post.PostSummaryResponse;
+import com.copoto.project.dto.post.PostVersion;
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationStatus;
 import com.copoto.project.entity.Post;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // 목록 조회용 요약 select - 본문(LONGTEXT) 대신 저장해 둔 미리보기(excerpt)를 읽는다
+    // excerpt가 없는 예전 글만 본문 앞부분을 DB에서 잘라 가져오고, 댓글 수는 저장된 comment_count를 쓴다 (comment 테이블을 읽지 않음)
+    String SUMMARY_SELECT = "select new com.copoto.project.dto.post.PostSummaryResponse("
+        + "p.postId, p.title, p.type, p.view_count, p.user.id, p.createdAt, p.updatedAt, p.moderationStatus, "
+        + "coalesce(p.excerpt, substring(p.contents, 1, " + Post.EXCERPT_LENGTH + ")), "
+        + "p.commentCount) from Post p ";
+
+    // 혐오 검출을 통과하지 못한 글은 작성자 본인(viewerId)에게만 포함
+    String VISIBLE_TO_VIEWER = "(p.moderationStatus is null or p.moderationStatus = com.copoto.project.entity.ModerationStatus.APPROVED or p.user.id = :viewerId) ";
+
+    // keyset(cursor) 조건 - (createdAt, postId)가 커서보다 앞선(더 오래된) 글
+    // createdAt <= :createdAt 조건으로 인덱스 범위 스캔이 되고, 같은 시각의 글은 postId로 구분한다
+    String BEFORE_CURSOR = "p.createdAt <= :createdAt and (p.createdAt < :createdAt or p.postId < :postId) ";
+
+    String NEWEST_FIRST = "order by p.createdAt desc, p.postId desc";
+
+    // 게시판 목록 (type, created_at) 인덱스 사용 - 요청한 페이지 크기만큼만 읽는다
+    @Query(SUMMARY_SELECT + "where p.type = :type and " + VISIBLE_TO_VIEWER)
+    Slice<PostSummaryResponse> findVisibleByType(@Param("type") String type, @Param("viewerId") String viewerId, Pageable pageable);
+
+    // 유저별 글 목록 (user_id, created_at) 인덱스 사용
+    @Query(SUMMARY_SELECT + "where p.user.id = :userId and " + VISIBLE_TO_VIEWER + NEWEST_FIRST)
+    List<PostSummaryResponse> findVisibleByUser(@Param("userId") String userId, @Param("viewerId") String viewerId);
+
+    // 유저별 글 목록 (페이지 단위) - 정렬은 Pageable로
+    @Query(SUMMARY_SELECT + "where p.user.id = :userId and " + VISIBLE_TO_VIEWER)
+    Slice<PostSummaryResponse> findVisibleByUser(@Param("userId") String userId, @Param("viewerId") String viewerId, Pageable pageable);
+
+    // keyset(cursor) 목록 - 커서 이후 글을 최신순으로
+    @Query(SUMMARY_SELECT + "where " + BEFORE_CURSOR + "and " + VISIBLE_TO_VIEWER + NEWEST_FIRST)
+    Slice<PostSummaryResponse> findVisibleBefore(@Param("createdAt") LocalDateTime createdAt, @Param("postId") Long postId,
+        @Param("viewerId") String viewerId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.type = :type and " + BEFORE_CURSOR + "and " + VISIBLE_TO_VIEWER + NEWEST_FIRST)
+    Slice<PostSummaryResponse> findVisibleByTypeBefore(@Param("type") String type, @Param("createdAt") LocalDateTime createdAt,
+        @Param("postId") Long postId, @Param("viewerId") String viewerId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.user.id = :userId and " + BEFORE_CURSOR + "and " + VISIBLE_TO_VIEWER + NEWEST_FIRST)
+    Slice<PostSummaryResponse> findVisibleByUserBefore(@Param("userId") String userId, @Param("createdAt") LocalDateTime createdAt,
+        @Param("postId") Long postId, @Param("viewerId") String viewerId, Pageable pageable);
+
+    // 조건부 조회용 버전 - PK 조회 한 번, 본문(LONGTEXT)은 읽지 않는다
+    @Query("select new com.copoto.project.dto.post.PostVersion(p.postId, p.user.id, p.moderationStatus, p.updatedAt, p.moderatedAt, p.commentsChangedAt) "
+        + "from Post p where p.postId = :postId")
+    Optional<PostVersion> findVersion(@Param("postId") Long postId);
+
+    // 댓글 수 증감 - 엔티티를 읽지 않고 UPDATE 한 번 (동시에 작성/삭제돼도 증감이 누락되지 않는다)
+    // 댓글 작성/삭제 시각도 함께 기록하고, updated_at(글 수정 시각)은 그대로 둔다
+    @Modifying
+    @Transactional
+    @Query("update Post p set p.commentCount = p.commentCount + :delta, p.commentsChangedAt = :changedAt, p.updatedAt = p.updatedAt "
+        + "where p.postId = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta, @Param("changedAt") LocalDateTime changedAt);
+
+    // 검출 대기(PENDING) 상태로 오래 남아 있는 행 - 서버 종료/장애로 큐에서 사라진 작업을 다시 넣을 때 사용 (id 순서)
+    @Query("select p from Post p where p.moderationStatus = com.copoto.project.entity.ModerationStatus.PENDING "
+        + "and p.updatedAt < :before and p.postId > :afterId order by p.postId")
+    List<Post> findStalePending(@Param("before") LocalDateTime before, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 비동기 혐오 검출 결과 반영 (엔티티를 다시 읽지 않고 상태/판정 컬럼만 갱신, 수정 시각은 그대로)
+    // 아직 PENDING인 행만 - 그 사이 동기 경로로 수정/판정된 행은 덮어쓰지 않는다
+    @Modifying
+    @Transactional
+    @Query("update Post p set p.moderationStatus = :status, p.moderationScore = :score, p.moderationScoreExact = :scoreExact, "
+        + "p.moderationVerdict = :verdict, p.moderationModel = :model, p.moderatedAt = :moderatedAt, p.updatedAt = p.updatedAt where p.postId = :postId "
+        + "and p.moderationStatus = com.copoto.project.entity.ModerationStatus.PENDING")
+    int updateModeration(@Param("postId") Long postId, @Param("status") ModerationStatus status,
+        @Param("score") Double score, @Param("scoreExact") boolean scoreExact, @Param("verdict") ModerationLabel verdict,
+        @Param("model") String model, @Param("moderatedAt") LocalDateTime moderatedAt);
+
+    // 임계값 변경 시 저장된 점수만으로 판정/노출 상태를 다시 계산 (모델 호출 없음)
+    // 점수가 없는(판정을 받지 못한) 행, 아직 검출 중인 PENDING 행, 점수가 최댓값이 아닌(경계값인) 행은 건드리지 않는다
+    // updated_at = updated_at: ON UPDATE CURRENT_TIMESTAMP 컬럼이어도 재판정이 수정 시각(ETag/Last-Modified)을 바꾸지 않도록
+    @Modifying
+    @Transactional
+    @Query(value = "update post set "
+        + "moderation_verdict = case when moderation_score >= :threshold then 'HATE' else 'CLEAN' end, "
+        + "moderation_status = case when moderation_score >= :threshold then 'REJECTED' else 'APPROVED' end, "
+        + "updated_at = updated_at "
+        + "where moderation_score is not null and moderation_score_exact = true and moderation_status <> 'PENDING'", nativeQuery = true)
+    int reapplyThreshold(@Param("threshold") double threshold);
+
+    // 점수가 경계값이라 새 임계값에서 판정이 바뀔 수 있는 행 수 (혐오 판정의 하한이 임계값 미만, 통과 판정의 상한이 임계값 이상)
+    @Query(value = "select count(*) from post where moderation_score_exact = false and moderation_status <> 'PENDING' "
+        + "and ((moderation_verdict = 'HATE' and moderation_score < :threshold) "
+        + "or (moderation_verdict = 'CLEAN' and moderation_score >= :threshold))", nativeQuery = true)
+    long countNeedingReclassification(@Param("threshold") double threshold);
 }
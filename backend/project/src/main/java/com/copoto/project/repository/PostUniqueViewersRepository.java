@@ -0,0 +1,19 @@
+package com.copoto.project.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.copoto.project.entity.PostUniqueViewers;
+
+@Repository
+public interface PostUniqueViewersRepository extends JpaRepository<PostUniqueViewers, Long> {
+
+    // 목록 조회용 - 레지스터(BLOB)는 읽지 않고 저장된 추정값만
+    @Query("select v.postId, v.estimate from PostUniqueViewers v where v.postId in :postIds")
+    List<Object[]> findEstimates(@Param("postIds") Collection<Long> postIds);
+}
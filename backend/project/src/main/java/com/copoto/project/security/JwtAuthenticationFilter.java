@@ -1,9 +1,16 @@
 package com.copoto.project.security;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -22,10 +29,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserService userService;
+    // 관리자 유저 ID 목록 (쉼표 구분) - ROLE_ADMIN 권한을 받는다, 비어 있으면 관리자 없음
+    private final Set<String> adminIds;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserService userService) {
+    public JwtAuthenticationFilter(
+        JwtTokenProvider jwtTokenProvider,
+        UserService userService,
+        @Value("${security.admin-ids:}") String adminIds
+    ) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userService = userService;
+        this.adminIds = Arrays.stream(adminIds.split(","))
+            .map(String::trim)
+            .filter(id -> !id.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
     }
 
     @Override
@@ -47,8 +64,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (jwtTokenProvider.validateToken(token)) {
                 String userId = jwtTokenProvider.getUserIdFromToken(token);
                 User user = userService.getUserById(userId);
+                List<GrantedAuthority> authorities = adminIds.contains(userId)
+                        ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
+                        : Collections.emptyList();
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList());
+                        new UsernamePasswordAuthenticationToken(user, null, authorities);
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 logger.debug("JwtAuthenticationFilter - User authenticated: {}" + userId);
@@ -0,0 +1,72 @@
+package com.copoto.project.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// post.comment_count 보정 작업 (comment_count는 혐오 검출 상태와 무관한 전체 댓글 수)
+// 댓글 수는 작성/삭제 시 증감 UPDATE로 유지하지만, 중간 실패나 유저 탈퇴로 인한 댓글 일괄 삭제(cascade) 등으로 어긋날 수 있다.
+// 주기적으로 post_id 순서로 chunk-size개씩 실제 댓글 수와 다른 글을 찾아 다시 센 값으로 맞춘다.
+// 새로 추가된 컬럼(기본값 0)도 첫 실행에서 채워진다.
+@Component
+public class CommentCountReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentCountReconciler.class);
+
+    // 실제 댓글 수는 (post_id, created_at) 인덱스만 읽어서 센다
+    private static final String SELECT_DRIFTED_SQL = "select p.post_id from post p where p.post_id > ? "
+        + "and p.comment_count <> (select count(*) from comment c where c.post_id = p.post_id) order by p.post_id limit ?";
+
+    // 찾은 뒤 그 사이 증감된 값도 덮어쓰지 않도록 UPDATE 시점에 다시 센다 (updated_at은 그대로)
+    private static final String REPAIR_SQL = "update post set comment_count = (select count(*) from comment c where c.post_id = ?), "
+        + "comments_changed_at = ?, updated_at = updated_at where post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostResponseCache postResponseCache;
+    private final int chunkSize;
+
+    public CommentCountReconciler(
+        JdbcTemplate jdbcTemplate,
+        PostResponseCache postResponseCache,
+        @Value("${post.comment-count.reconcile-chunk-size:500}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postResponseCache = postResponseCache;
+        this.chunkSize = chunkSize;
+    }
+
+    // 보정한 게시글 수 반환
+    @Scheduled(initialDelayString = "${post.comment-count.reconcile-initial-delay-ms:60000}",
+        fixedDelayString = "${post.comment-count.reconcile-interval-ms:3600000}")
+    public synchronized long reconcile() {
+        long repaired = 0;
+        long lastId = 0;
+        while (true) {
+            List<Long> drifted = jdbcTemplate.queryForList(SELECT_DRIFTED_SQL, Long.class, lastId, chunkSize);
+            if (drifted.isEmpty()) {
+                break;
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> args = new ArrayList<>(drifted.size());
+            for (Long postId : drifted) {
+                args.add(new Object[] { postId, now, postId });
+            }
+            jdbcTemplate.batchUpdate(REPAIR_SQL, args);
+            drifted.forEach(postResponseCache::invalidate);
+            repaired += drifted.size();
+            lastId = drifted.get(drifted.size() - 1);
+        }
+        if (repaired > 0) {
+            log.info("Repaired comment_count of {} posts", repaired);
+        }
+        return repaired;
+    }
+}
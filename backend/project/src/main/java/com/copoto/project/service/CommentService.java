@@ -1,14 +1,36 @@
 package com.copoto.project.service;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.copoto.project.dto.CommentThreadVersion;
+import com.copoto.project.dto.post.PostVersion;
 import com.copoto.project.entity.Comment;
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationStatus;
 import com.copoto.project.entity.Post;
 import com.copoto.project.entity.User;
+import com.copoto.project.moderation.AsyncModerationWorker;
+import com.copoto.project.moderation.ContentType;
+import com.copoto.project.moderation.HateSpeechException;
+import com.copoto.project.moderation.ModerationResult;
+import com.copoto.project.moderation.ModerationService;
 import com.copoto.project.repository.CommentRepository;
+import com.copoto.project.repository.PostRepository;
+import com.copoto.project.util.ETags;
+import com.copoto.project.util.KeysetCursor;
+import com.copoto.project.util.PageRequests;
 
 @Service
 public class CommentService {
@@ -16,11 +38,41 @@ public class CommentService {
     @Autowired
     private CommentRepository commentRepository;
 
-    // 댓글 생성 (Create)
+    @Autowired
+    private ModerationService moderationService;
+
+    @Autowired
+    private AsyncModerationWorker asyncModerationWorker;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostResponseCache postResponseCache;
+
+    // 댓글 생성 (Create) - 댓글 저장과 comment_count 증가는 같은 트랜잭션
+    @Transactional
     public Comment createComment(Comment comment, Post post, User user) {
         comment.setPost(post);
         comment.setUser(user);
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        postRepository.addCommentCount(post.getPostId(), 1, LocalDateTime.now());
+        invalidateAfterCommit(post.getPostId()); // 댓글 수 변경
+        return saved;
+    }
+
+    // 커밋 전에 무효화하면 그 사이 캐시 미스로 읽은 이전 댓글 수가 다시 캐시되므로 커밋 후에 무효화한다
+    private void invalidateAfterCommit(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            postResponseCache.invalidate(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                postResponseCache.invalidate(postId);
+            }
+        });
     }
 
     // 특정 댓글 조회 (Read)
@@ -29,18 +81,63 @@ public class CommentService {
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
     }
 
-    // 특정 게시글의 모든 댓글 조회 (Read)
-    public List<Comment> getCommentsByPost(Post post) {
-        return commentRepository.findAll().stream()
-                .filter(comment -> comment.getPost().equals(post))
-                .toList();
+    // 혐오 검출을 통과하지 못한(PENDING/REJECTED) 댓글은 작성자 본인에게만 노출
+    public boolean isVisibleTo(Comment comment, String viewerId) {
+        return comment.getModerationStatus() == null
+            || comment.getModerationStatus() == ModerationStatus.APPROVED
+            || comment.getUser().getId().equals(viewerId);
+    }
+
+    // 혐오 검출 결과를 엔티티에 기록 (저장은 호출하는 쪽에서)
+    public void applyModeration(Comment comment, ModerationResult result) {
+        comment.setModerationScore(result.getScore());
+        comment.setModerationScoreExact(result.isScoreExact());
+        comment.setModerationVerdict(result.getLabel());
+        comment.setModerationModel(result.getModelVersion());
+        comment.setModeratedAt(result.getModeratedAt());
+    }
+
+    // 특정 게시글의 모든 댓글 조회 (Read) - viewerId에게 보이는 댓글만, 작성순
+    public List<Comment> getCommentsByPost(Long postId, String viewerId) {
+        return commentRepository.findVisibleByPost(postId, viewerId, Sort.by(Sort.Direction.ASC, "createdAt", "id"));
     }
 
-    // 특정 유저의 모든 댓글 조회 (Read)
-    public List<Comment> getCommentsByUser(User user) {
-        return commentRepository.findAll().stream()
-                .filter(post -> post.getUser().equals(user))
-                .toList();
+    // 특정 게시글의 댓글 조회 (Read) - 페이지 단위, viewerId에게 보이는 댓글만
+    public Slice<Comment> getCommentsByPost(Long postId, String viewerId, Pageable pageable) {
+        return commentRepository.findVisibleByPost(postId, viewerId, PageRequests.withTieBreak(pageable, "id"));
+    }
+
+    // keyset(cursor) 댓글 목록 - cursor 다음 댓글부터 작성순으로
+    public Slice<Comment> getCommentsAfter(Long postId, KeysetCursor cursor, String viewerId, Pageable pageable) {
+        return commentRepository.findVisibleByPostAfter(postId, cursor.getCreatedAt(), cursor.getId(), viewerId, pageable);
+    }
+
+    // 조건부 조회용 댓글 목록 버전 (집계 쿼리 한 번)
+    public CommentThreadVersion getThreadVersion(Long postId) {
+        return commentRepository.findThreadVersion(postId);
+    }
+
+    // 댓글 목록 ETag - 작성/삭제/수정/혐오 검출 상태/임계값이 바뀌면 달라진다
+    // 작성자 본인에게만 보이는 댓글이 있어 보는 사람(viewerId)도 포함한다
+    public String getListETag(PostVersion post, CommentThreadVersion thread, String viewerId) {
+        return ETags.strong("comments", post.postId(), thread.count(), thread.lastCommentId(), thread.lastUpdatedAt(),
+            thread.lastModeratedAt(), post.commentsChangedAt(), moderationService.getThreshold(), viewerId);
+    }
+
+    // 삭제는 댓글 행에 흔적이 남지 않으므로 게시글의 commentsChangedAt으로 반영한다
+    public long getListLastModified(PostVersion post, CommentThreadVersion thread) {
+        return ETags.lastModified(thread.lastUpdatedAt(), thread.lastModeratedAt(), post.commentsChangedAt(),
+            moderationService.getThresholdChangedAt());
+    }
+
+    // 특정 유저의 모든 댓글 조회 (Read) - viewerId에게 보이는 댓글만, 작성순
+    public List<Comment> getCommentsByUser(String userId, String viewerId) {
+        return commentRepository.findVisibleByUser(userId, viewerId, Sort.by(Sort.Direction.ASC, "createdAt", "id"));
+    }
+
+    // 특정 유저의 댓글 조회 (Read) - 페이지 단위, viewerId에게 보이는 댓글만
+    public Slice<Comment> getCommentsByUser(String userId, String viewerId, Pageable pageable) {
+        return commentRepository.findVisibleByUser(userId, viewerId, PageRequests.withTieBreak(pageable, "id"));
     }
 
     // 댓글 수정 (Update)
@@ -51,12 +148,34 @@ public class CommentService {
         if (!comment.getUser().getId().equals(user.getId())) {
             throw new SecurityException("You are not allowed to edit this comment.");
         }
+        // 비동기 모드: PENDING으로 저장하고 새 내용으로 다시 검사 (이미 큐에 있는 이전 내용의 결과는 기록되지 않는다)
+        if (asyncModerationWorker.isEnabled()) {
+            asyncModerationWorker.supersedeComment(commentId);
+            comment.setContent(newContent);
+            comment.setModerationStatus(ModerationStatus.PENDING);
+            Comment saved = commentRepository.save(comment);
+            asyncModerationWorker.moderateComment(commentId, newContent);
+            return saved;
+        }
+        // 혐오 발언 검출 - 이전 내용이 CLEAN 판정을 받은 댓글이면 바뀐 문장만 검사
+        // (fail-open으로 통과한 UNKNOWN, 판정 기록이 없는 기존 댓글, 검출 중인 PENDING 댓글은 전체를 다시 검사)
+        boolean trusted = comment.getModerationStatus() == ModerationStatus.APPROVED
+            && comment.getModerationVerdict() == ModerationLabel.CLEAN;
+        List<String> previousTexts = trusted ? Arrays.asList(comment.getContent()) : List.of();
+        Optional<ModerationResult> result = moderationService.moderateEdit(ContentType.COMMENT, previousTexts, newContent);
+        if (result.isPresent() && result.get().isHate()) {
+            throw new HateSpeechException(ContentType.COMMENT);
+        }
+        // 바뀐 문장만 검사했다면 남아 있는 기존 문장의 점수보다 낮게 기록하지 않는다
+        result.ifPresent(r -> applyModeration(comment, trusted ? r.withMinimumScore(comment.getModerationScore()) : r));
         comment.setContent(newContent);
+        comment.setModerationStatus(ModerationStatus.APPROVED);
         return commentRepository.save(comment);
     }
 
 
-    // 댓글 삭제 (Delete)
+    // 댓글 삭제 (Delete) - 댓글 삭제와 comment_count 감소는 같은 트랜잭션
+    @Transactional
     public void deleteComment(Long commentId, User user) {
         Comment comment = commentRepository.findById(commentId)
             .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
@@ -64,7 +183,10 @@ public class CommentService {
         if (!comment.getUser().getId().equals(user.getId())) {
             throw new SecurityException("You are not allowed to delete this comment.");
         }
-        commentRepository.deleteById(commentId);
+        if (commentRepository.deleteComment(commentId) > 0) {
+            postRepository.addCommentCount(comment.getPost().getPostId(), -1, LocalDateTime.now());
+            invalidateAfterCommit(comment.getPost().getPostId()); // 댓글 수 변경
+        }
     }
 
 }
@@ -0,0 +1,171 @@
+package com.copoto.project.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.copoto.project.dto.post.PostResponse;
+import com.copoto.project.dto.post.PostVersion;
+
+// 게시글 상세 조회 응답 캐시 (post id -> PostResponse, LRU)
+// 엔트리 개수와 추정 메모리 사용량(bytes) 중 먼저 한도에 닿는 쪽 기준으로 오래된 항목부터 제거한다.
+// 게시글 수정/삭제, 댓글 수 변경, 혐오 검출 상태 변경 시 무효화한다.
+// 조회수는 캐시 시점의 DB 값이고, PostViewCounter가 반영할 때마다 addViews로 맞춘다.
+// (반영하는 동안 읽어 넣은 값은 증가분이 포함됐는지 알 수 없으므로 더하지 않고 버린다)
+// 조건부 조회용 버전(PostVersion)도 같이 두어 캐시된 글은 304 응답에 DB를 읽지 않는다 (무효화 시점이 같다).
+@Component
+public class PostResponseCache {
+
+    // 문자열 외에 엔트리 하나가 차지하는 대략적인 크기 (map node + DTO + 타임스탬프들)
+    private static final long ENTRY_OVERHEAD_BYTES = 400;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+    // 무효화가 일어날 때마다 증가 - DB에서 읽는 동안 무효화됐으면 읽은 값을 넣지 않는다
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PostResponseCache(
+        @Value("${post.cache.max-entries:10000}") int maxEntries,
+        @Value("${post.cache.max-bytes:67108864}") long maxBytes
+    ) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    // 캐시에 없으면 null, 있으면 호출하는 쪽에서 수정해도 되는 복사본
+    public synchronized PostResponse get(Long postId) {
+        Entry cached = entries.get(postId);
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return copyOf(cached.response());
+    }
+
+    // 캐시에 없으면 null (LRU 순서와 통계에는 영향 없음)
+    public synchronized PostVersion getVersion(Long postId) {
+        Entry cached = entries.get(postId);
+        return cached == null ? null : cached.version();
+    }
+
+    // DB에서 읽기 전에 받아 두고 putIfCurrent에 넘긴다
+    public synchronized long currentGeneration() {
+        return generation;
+    }
+
+    public synchronized void putIfCurrent(Long postId, PostResponse response, PostVersion version, long loadedGeneration) {
+        if (loadedGeneration != generation || maxEntries <= 0) {
+            return;
+        }
+        remove(postId);
+        PostResponse copy = copyOf(response);
+        entries.put(postId, new Entry(copy, version, loadedGeneration));
+        currentBytes += weigh(copy);
+
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || currentBytes > maxBytes) && eldest.hasNext()) {
+            PostResponse evicted = eldest.next().getValue().response();
+            eldest.remove();
+            currentBytes -= weigh(evicted);
+            evictions.incrementAndGet();
+        }
+    }
+
+    public synchronized void invalidate(Long postId) {
+        generation++;
+        invalidations.incrementAndGet();
+        remove(postId);
+    }
+
+    public synchronized void clear() {
+        generation++;
+        invalidations.incrementAndGet();
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    // 조회수를 DB에 반영하기 전에 받아 두고 addViews에 넘긴다
+    // 이후에 시작된 로드는 반영 전 값을 읽었는지 후 값을 읽었는지 알 수 없다
+    public synchronized long beginViewUpdate() {
+        return ++generation;
+    }
+
+    // 버퍼에 있던 조회수가 DB에 반영되면 캐시된 조회수도 같이 올린다
+    // - 반영 시작 전에 읽어 넣은 엔트리: 증가분을 더한다
+    // - 반영 중에 읽어 넣은 엔트리: 이미 증가분이 포함됐을 수 있으므로 뺀다
+    // - 아직 넣지 못한 로드: generation을 올려서 버린다
+    public synchronized void addViews(Long postId, long delta, long updateGeneration) {
+        generation++;
+        Entry cached = entries.get(postId);
+        if (cached == null) {
+            return;
+        }
+        if (cached.loadedGeneration() >= updateGeneration) {
+            remove(postId);
+            return;
+        }
+        cached.response().setViewCount((cached.response().getViewCount() == null ? 0L : cached.response().getViewCount()) + delta);
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("bytes", currentBytes);
+        stats.put("hits", hitCount);
+        stats.put("misses", misses.get());
+        stats.put("hitRate", total == 0 ? 0.0 : Math.round(hitCount * 1000.0 / total) / 1000.0);
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private void remove(Long postId) {
+        Entry removed = entries.remove(postId);
+        if (removed != null) {
+            currentBytes -= weigh(removed.response());
+        }
+    }
+
+    private static long weigh(PostResponse response) {
+        return ENTRY_OVERHEAD_BYTES + 2L * (length(response.getTitle()) + length(response.getContents())
+            + length(response.getType()) + length(response.getUserId()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static PostResponse copyOf(PostResponse source) {
+        PostResponse copy = new PostResponse();
+        copy.setPostId(source.getPostId());
+        copy.setTitle(source.getTitle());
+        copy.setContents(source.getContents());
+        copy.setType(source.getType());
+        copy.setViewCount(source.getViewCount());
+        copy.setUniqueViewCount(source.getUniqueViewCount());
+        copy.setCommentCount(source.getCommentCount());
+        copy.setUserId(source.getUserId());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setHateSpeech(source.getHateSpeech());
+        copy.setModerationStatus(source.getModerationStatus());
+        return copy;
+    }
+
+    private record Entry(PostResponse response, PostVersion version, long loadedGeneration) {
+    }
+}
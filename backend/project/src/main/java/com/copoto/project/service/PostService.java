@@ -1,14 +1,33 @@
 package com.copoto.project.service;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import com.copoto.project.dto.post.PostResponse;
+import com.copoto.project.dto.post.PostSummaryResponse;
+import com.copoto.project.dto.post.PostVersion;
 import com.copoto.project.entity.Comment;
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationStatus;
 import com.copoto.project.entity.Post;
 import com.copoto.project.entity.User;
+import com.copoto.project.moderation.AsyncModerationWorker;
+import com.copoto.project.moderation.ContentType;
+import com.copoto.project.moderation.HateSpeechException;
+import com.copoto.project.moderation.ModerationResult;
+import com.copoto.project.moderation.ModerationService;
 import com.copoto.project.repository.PostRepository;
+import com.copoto.project.util.ETags;
+import com.copoto.project.util.KeysetCursor;
+import com.copoto.project.util.PageRequests;
 
 @Service
 public class PostService {
@@ -16,38 +35,164 @@ public class PostService {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private ModerationService moderationService;
+
+    @Autowired
+    private AsyncModerationWorker asyncModerationWorker;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostUniqueViewerCounter postUniqueViewerCounter;
+
+    @Autowired
+    private PostResponseCache postResponseCache;
+
     // 게시글 생성 (Create)
     public Post createPost(Post post, User user) {
         post.setUser(user);
         return postRepository.save(post);
     }
 
-    // 특정 게시글 조회 (Read)
+    // 특정 게시글 조회 (Read) - 읽기 경로에서는 저장하지 않는다
     public Post getPostById(Long postId) {
-        Post post = postRepository.findById(postId)
+        return postRepository.findById(postId)
             .orElseThrow(() -> new IllegalArgumentException("Post not found"));
-        // post.setView_count(post.getView_count() + 1L);
-        return postRepository.save(post);
     }
 
-    // 게시글 조회 API 호출 시 조회수 증가 메서드
-    public void increaseViewCount(Post post) {
-        post.setView_count(post.getView_count() + 1L);
-        postRepository.save(post);
+    // 게시글 상세 응답 (Read) - 캐시에 없을 때만 DB에서 읽는다
+    // 반환값은 복사본이므로 조회수 등 요청별 값은 호출하는 쪽에서 채워도 된다
+    public PostResponse getPostResponse(Long postId) {
+        PostResponse cached = postResponseCache.get(postId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = postResponseCache.currentGeneration();
+        Post post = getPostById(postId);
+        PostResponse response = new PostResponse();
+        response.setPostId(post.getPostId());
+        response.setTitle(post.getTitle());
+        response.setContents(post.getContents());
+        response.setType(post.getType());
+        response.setViewCount(post.getView_count());
+        response.setCommentCount(post.getCommentCount());
+        response.setUserId(post.getUser().getId());
+        response.setCreatedAt(post.getCreatedAt());
+        response.setUpdatedAt(post.getUpdatedAt());
+        response.setModerationStatus(post.getModerationStatus());
+        PostVersion version = new PostVersion(post.getPostId(), post.getUser().getId(), post.getModerationStatus(),
+            post.getUpdatedAt(), post.getModeratedAt(), post.getCommentsChangedAt());
+        postResponseCache.putIfCurrent(postId, response, version, generation);
+        return response;
+    }
+
+    // 조건부 조회용 버전 - 캐시에 있으면 DB를 읽지 않고, 없으면 본문 없이 버전 컬럼만 읽는다
+    public PostVersion getPostVersion(Long postId) {
+        PostVersion cached = postResponseCache.getVersion(postId);
+        if (cached != null) {
+            return cached;
+        }
+        return postRepository.findVersion(postId)
+            .orElseThrow(() -> new IllegalArgumentException("Post not found"));
     }
 
-    // 특정 게시판의 게시글 조회 (Read)
-    public List<Post> getPostsByType(String type) {
-        return postRepository.findAll().stream()
-                .filter(post -> post.getType().equals(type))
-                .toList();
+    // 상세 응답 ETag - 조회수는 요청마다 바뀌므로 제외한 weak ETag
+    // 댓글 수는 commentsChangedAt, 노출 상태(임계값 변경 포함)는 moderationStatus로 드러난다
+    public String getETag(PostVersion version) {
+        return ETags.weak("post", version.postId(), version.updatedAt(), version.moderatedAt(),
+            version.commentsChangedAt(), version.moderationStatus());
     }
 
-    // 특정 유저의 게시글 조회 (Read)
-    public List<Post> getPostsByUser(User user) {
-        return postRepository.findAll().stream()
-                .filter(post -> post.getUser().equals(user))
-                .toList();
+    public long getLastModified(PostVersion version) {
+        return ETags.lastModified(version.updatedAt(), version.moderatedAt(), version.commentsChangedAt(),
+            moderationService.getThresholdChangedAt());
+    }
+
+    public Map<String, Object> getCacheStats() {
+        return postResponseCache.getStats();
+    }
+
+    // 게시글 조회 API 호출 시 조회수 증가 - 메모리 버퍼에만 기록하고 주기적으로 한 번에 반영
+    // viewerKey는 고유 조회자 추정용 (로그인 유저 id 또는 비로그인 클라이언트 식별값)
+    public void increaseViewCount(Long postId, String viewerKey) {
+        postViewCounter.record(postId);
+        postUniqueViewerCounter.record(postId, viewerKey);
+    }
+
+    // 추정 고유 조회자 수
+    public Long getUniqueViewCount(Long postId) {
+        return postUniqueViewerCounter.estimate(postId);
+    }
+
+    // 목록용 추정 고유 조회자 수 (postId -> 추정값, 기록이 없는 글은 빠짐)
+    public Map<Long, Long> getUniqueViewCounts(Collection<Long> postIds) {
+        return postUniqueViewerCounter.estimates(postIds);
+    }
+
+    // 반영 대기 중인 조회수를 더한 조회수
+    public Long getViewCount(Post post) {
+        return getViewCount(post.getPostId(), post.getView_count());
+    }
+
+    public Long getViewCount(Long postId, Long storedViewCount) {
+        return postViewCounter.merge(postId, storedViewCount);
+    }
+
+    // 혐오 검출을 통과하지 못한(PENDING/REJECTED) 게시글은 작성자 본인에게만 노출
+    public boolean isVisibleTo(Post post, String viewerId) {
+        return post.getModerationStatus() == null
+            || post.getModerationStatus() == ModerationStatus.APPROVED
+            || post.getUser().getId().equals(viewerId);
+    }
+
+    public boolean isVisibleTo(PostVersion post, String viewerId) {
+        return post.moderationStatus() == null
+            || post.moderationStatus() == ModerationStatus.APPROVED
+            || post.userId().equals(viewerId);
+    }
+
+    // 혐오 검출 결과를 엔티티에 기록 (저장은 호출하는 쪽에서)
+    public void applyModeration(Post post, ModerationResult result) {
+        post.setModerationScore(result.getScore());
+        post.setModerationScoreExact(result.isScoreExact());
+        post.setModerationVerdict(result.getLabel());
+        post.setModerationModel(result.getModelVersion());
+        post.setModeratedAt(result.getModeratedAt());
+    }
+
+    // 특정 게시판의 게시글 조회 (Read) - 페이지 단위, viewerId에게 보이는 글만
+    public Slice<PostSummaryResponse> getPostsByType(String type, String viewerId, Pageable pageable) {
+        return withPendingViews(postRepository.findVisibleByType(type, viewerId, PageRequests.withTieBreak(pageable, "postId")));
+    }
+
+    // keyset(cursor) 목록 - cursor보다 오래된 글을 최신순으로 (type/userId가 null이면 조건 없음)
+    public Slice<PostSummaryResponse> getPostsBefore(String type, String userId, KeysetCursor cursor, String viewerId, Pageable pageable) {
+        if (type != null) {
+            return withPendingViews(postRepository.findVisibleByTypeBefore(type, cursor.getCreatedAt(), cursor.getId(), viewerId, pageable));
+        }
+        if (userId != null) {
+            return withPendingViews(postRepository.findVisibleByUserBefore(userId, cursor.getCreatedAt(), cursor.getId(), viewerId, pageable));
+        }
+        return withPendingViews(postRepository.findVisibleBefore(cursor.getCreatedAt(), cursor.getId(), viewerId, pageable));
+    }
+
+    // 특정 유저의 게시글 요약 목록 (Read) - viewerId에게 보이는 글만, 최신순
+    public List<PostSummaryResponse> getPostSummariesByUser(String userId, String viewerId) {
+        return withPendingViews(postRepository.findVisibleByUser(userId, viewerId));
+    }
+
+    // 특정 유저의 게시글 요약 목록 (Read) - 페이지 단위, viewerId에게 보이는 글만
+    public Slice<PostSummaryResponse> getPostSummariesByUser(String userId, String viewerId, Pageable pageable) {
+        return withPendingViews(postRepository.findVisibleByUser(userId, viewerId, PageRequests.withTieBreak(pageable, "postId")));
+    }
+
+    private <T extends Iterable<PostSummaryResponse>> T withPendingViews(T summaries) {
+        for (PostSummaryResponse summary : summaries) {
+            summary.setViewCount(postViewCounter.merge(summary.getPostId(), summary.getViewCount()));
+        }
+        return summaries;
     }
 
     // 모든 게시글 조회 (Read)
@@ -63,10 +208,36 @@ public class PostService {
         if (!post.getUser().getId().equals(user.getId())) {
             throw new SecurityException("You are not allowed to edit this post.");
         }
+        // 비동기 모드: PENDING으로 저장하고 새 내용으로 다시 검사 (이미 큐에 있는 이전 내용의 결과는 기록되지 않는다)
+        if (asyncModerationWorker.isEnabled()) {
+            asyncModerationWorker.supersedePost(postId);
+            post.setTitle(newTitle);
+            post.setContents(newContents);
+            post.setType(newType);
+            post.setModerationStatus(ModerationStatus.PENDING);
+            Post saved = postRepository.save(post);
+            postResponseCache.invalidate(postId);
+            asyncModerationWorker.moderatePost(postId, newTitle, newContents);
+            return saved;
+        }
+        // 혐오 발언 검출 - 이전 내용이 CLEAN 판정을 받은 게시글이면 바뀐 문장만 검사
+        // (fail-open으로 통과한 UNKNOWN, 판정 기록이 없는 기존 글, 검출 중인 PENDING 글은 전체를 다시 검사)
+        boolean trusted = post.getModerationStatus() == ModerationStatus.APPROVED
+            && post.getModerationVerdict() == ModerationLabel.CLEAN;
+        List<String> previousTexts = trusted ? Arrays.asList(post.getTitle(), post.getContents()) : List.of();
+        Optional<ModerationResult> result = moderationService.moderateEdit(ContentType.POST, previousTexts, newTitle, newContents);
+        if (result.isPresent() && result.get().isHate()) {
+            throw new HateSpeechException(ContentType.POST);
+        }
+        // 바뀐 문장만 검사했다면 남아 있는 기존 문장의 점수보다 낮게 기록하지 않는다
+        result.ifPresent(r -> applyModeration(post, trusted ? r.withMinimumScore(post.getModerationScore()) : r));
         post.setTitle(newTitle);
         post.setContents(newContents);
         post.setType(newType);
-        return postRepository.save(post);
+        post.setModerationStatus(ModerationStatus.APPROVED);
+        Post saved = postRepository.save(post);
+        postResponseCache.invalidate(postId);
+        return saved;
     }
 
 
@@ -80,6 +251,8 @@ public class PostService {
             throw new SecurityException("You are not allowed to delete this post.");
         }
         postRepository.deleteById(postId);
+        postResponseCache.invalidate(postId);
+        postUniqueViewerCounter.forget(postId);
     }
 
 }
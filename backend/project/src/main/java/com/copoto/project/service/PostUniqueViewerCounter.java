@@ -0,0 +1,157 @@
+package com.copoto.project.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.copoto.project.repository.PostUniqueViewersRepository;
+import com.copoto.project.util.HyperLogLog;
+
+import jakarta.annotation.PreDestroy;
+
+// 게시글별 고유 조회자 수 추정 (HyperLogLog)
+// 조회자 키(로그인 유저 id 또는 비로그인 클라이언트 식별값)를 게시글 스케치에 넣기만 하고 DB에는 쓰지 않는다.
+// 바뀐 스케치는 주기적으로 레지스터 배열째 저장하고(post_unique_viewers), 메모리에는 최근 조회된 글만 유지한다.
+// 키 자체는 저장되지 않으므로 누가 봤는지는 남지 않는다.
+@Component
+public class PostUniqueViewerCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(PostUniqueViewerCounter.class);
+
+    private static final String UPSERT_SQL = "insert into post_unique_viewers (post_id, registers, estimate, updated_at) values (?, ?, ?, ?) "
+        + "on duplicate key update registers = values(registers), estimate = values(estimate), updated_at = values(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostUniqueViewersRepository repository;
+    private final int precision;
+    private final int maxCachedPosts;
+    private final ConcurrentHashMap<Long, HyperLogLog> sketches = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public PostUniqueViewerCounter(
+        JdbcTemplate jdbcTemplate,
+        PostUniqueViewersRepository repository,
+        @Value("${post.unique-viewers.precision:12}") int precision,
+        @Value("${post.unique-viewers.max-cached-posts:10000}") int maxCachedPosts
+    ) {
+        if (precision < HyperLogLog.MIN_PRECISION || precision > HyperLogLog.MAX_PRECISION) {
+            throw new IllegalArgumentException("post.unique-viewers.precision must be between "
+                + HyperLogLog.MIN_PRECISION + " and " + HyperLogLog.MAX_PRECISION);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.repository = repository;
+        this.precision = precision;
+        this.maxCachedPosts = maxCachedPosts;
+    }
+
+    // 조회 기록 후 현재 추정 고유 조회자 수 반환
+    public long record(Long postId, String viewerKey) {
+        HyperLogLog sketch = sketch(postId);
+        if (sketch.offer(viewerKey)) {
+            // flush가 그 사이 이 스케치를 메모리에서 뺐다면 다시 넣는다 (빠진 스케치는 저장되지 않으므로)
+            // 다른 요청이 이미 DB에서 새로 읽어 넣었다면 그쪽에 합친다
+            HyperLogLog current = sketches.putIfAbsent(postId, sketch);
+            if (current != null && current != sketch) {
+                current.merge(sketch);
+                sketch = current;
+            }
+            dirty.add(postId);
+        }
+        return sketch.estimate();
+    }
+
+    public long estimate(Long postId) {
+        return sketch(postId).estimate();
+    }
+
+    // 목록용 - 메모리에 있는 글은 스케치로, 나머지는 저장된 추정값으로 (쿼리 한 번)
+    public Map<Long, Long> estimates(Collection<Long> postIds) {
+        Map<Long, Long> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long postId : postIds) {
+            HyperLogLog sketch = sketches.get(postId);
+            if (sketch != null) {
+                result.put(postId, sketch.estimate());
+            } else {
+                missing.add(postId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Object[] row : repository.findEstimates(missing)) {
+                result.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return result;
+    }
+
+    // 게시글 삭제 시
+    public void forget(Long postId) {
+        sketches.remove(postId);
+        dirty.remove(postId);
+        repository.deleteById(postId);
+    }
+
+    private HyperLogLog sketch(Long postId) {
+        return sketches.computeIfAbsent(postId, id -> repository.findById(id)
+            .map(stored -> HyperLogLog.fromBytes(stored.getRegisters()))
+            .orElseGet(() -> new HyperLogLog(precision)));
+    }
+
+    @Scheduled(fixedDelayString = "${post.unique-viewers.flush-interval-ms:30000}")
+    public synchronized void flush() {
+        List<Long> flushed = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Iterator<Long> it = dirty.iterator(); it.hasNext();) {
+            Long postId = it.next();
+            it.remove();
+            HyperLogLog sketch = sketches.get(postId);
+            if (sketch == null) {
+                continue;
+            }
+            flushed.add(postId);
+            args.add(new Object[] { postId, sketch.toBytes(), sketch.estimate(), now });
+        }
+        if (!args.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+            } catch (DataAccessException e) {
+                // 다음 주기에 다시 저장
+                dirty.addAll(flushed);
+                log.warn("Failed to persist {} unique-viewer sketches, will retry", flushed.size(), e);
+            }
+        }
+        evictClean();
+    }
+
+    // 한도를 넘으면 저장이 끝난(dirty가 아닌) 스케치부터 메모리에서 뺀다 - 다음 조회 때 DB에서 다시 읽는다
+    private void evictClean() {
+        Iterator<Long> it = sketches.keySet().iterator();
+        while (sketches.size() > maxCachedPosts && it.hasNext()) {
+            Long postId = it.next();
+            if (!dirty.contains(postId)) {
+                it.remove();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
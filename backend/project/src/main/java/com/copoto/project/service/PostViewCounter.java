@@ -0,0 +1,125 @@
+package com.copoto.project.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// 게시글 조회수 write-behind 버퍼
+// 조회 요청에서는 메모리의 LongAdder만 증가시키고(DB 쓰기 없음), 주기적으로 게시글마다
+// "view_count = view_count + ?" 한 번씩 묶어서(batch) 반영한다. 종료 시에도 남은 값을 반영한다.
+// 아직 반영되지 않은 증가분은 pending()으로 조회해서 응답의 조회수에 더한다.
+@Component
+public class PostViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(PostViewCounter.class);
+
+    // updated_at = updated_at: ON UPDATE CURRENT_TIMESTAMP 컬럼이어도 조회수 반영이 글 수정 시각(ETag/Last-Modified)을 바꾸지 않도록
+    private static final String UPDATE_SQL = "update post set view_count = coalesce(view_count, 0) + ?, updated_at = updated_at where post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostResponseCache postResponseCache;
+    private final boolean enabled;
+    private final ConcurrentHashMap<Long, LongAdder> buffer = new ConcurrentHashMap<>();
+
+    public PostViewCounter(
+        JdbcTemplate jdbcTemplate,
+        PostResponseCache postResponseCache,
+        @Value("${post.view-count.write-behind:true}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postResponseCache = postResponseCache;
+        this.enabled = enabled;
+    }
+
+    // 조회 1회 기록 - 비활성화 시 바로 DB에 반영 (그래도 엔티티 전체 저장 대신 증가 UPDATE 한 번)
+    public void record(Long postId) {
+        if (!enabled) {
+            long updateGeneration = postResponseCache.beginViewUpdate();
+            jdbcTemplate.update(UPDATE_SQL, 1L, postId);
+            postResponseCache.addViews(postId, 1L, updateGeneration);
+            return;
+        }
+        LongAdder adder = buffer.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        // flush가 그 사이 이 adder를 버퍼에서 뺐다면 방금 올린 값을 버퍼로 옮긴다
+        if (buffer.get(postId) != adder) {
+            requeue(postId, adder);
+        }
+    }
+
+    // 버퍼에서 빠진 adder에 남은 증가분을 다시 버퍼로 (sumThenReset은 셀마다 원자적으로 비우므로 두 번 세지 않는다)
+    private void requeue(Long postId, LongAdder removed) {
+        long leftover = removed.sumThenReset();
+        if (leftover != 0) {
+            buffer.computeIfAbsent(postId, id -> new LongAdder()).add(leftover);
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long pending(Long postId) {
+        LongAdder adder = buffer.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    // DB 값에 반영 대기 중인 조회수를 더한 값
+    public Long merge(Long postId, Long storedViewCount) {
+        long pending = pending(postId);
+        if (pending == 0) {
+            return storedViewCount;
+        }
+        return (storedViewCount == null ? 0L : storedViewCount) + pending;
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        // post_id 순서로 갱신해서 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같도록
+        Map<Long, Long> deltas = new TreeMap<>();
+        buffer.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(postId, delta);
+            } else if (buffer.remove(postId, adder)) {
+                // 한 주기 동안 조회가 없었던 글은 버퍼에서 뺀다
+                // 빼기 직전에 adder를 받아 간 record의 증가분은 여기나 record 쪽 확인에서 다음 주기로 넘어간다
+                requeue(postId, adder);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[] { delta, postId }));
+        // 반영하는 동안 캐시에 들어온 조회수는 증가분이 이미 포함됐을 수 있다 - addViews가 더하지 않고 버린다
+        long updateGeneration = postResponseCache.beginViewUpdate();
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            deltas.forEach((postId, delta) -> postResponseCache.addViews(postId, delta, updateGeneration));
+        } catch (DataAccessException e) {
+            // 반영하지 못한 증가분은 버퍼로 되돌려 다음 주기에 다시 시도
+            deltas.forEach((postId, delta) -> buffer.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            log.warn("Failed to flush {} buffered view counts, will retry", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
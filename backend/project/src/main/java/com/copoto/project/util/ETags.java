@@ -0,0 +1,46 @@
+package com.copoto.project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// 조건부 조회(If-None-Match / If-Modified-Since)용 검증자 생성
+// ETag는 버전을 이루는 값들을 이어 붙인 SHA-256 앞 16바이트로 만든다 (값 자체는 노출하지 않음)
+public final class ETags {
+
+    private ETags() {
+    }
+
+    // 응답 바이트가 같을 때만 같은 값
+    public static String strong(Object... parts) {
+        String joined = Arrays.stream(parts).map(Objects::toString).collect(Collectors.joining("|"));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 의미상 같은 응답 (조회수처럼 요청마다 바뀌는 값은 버전에 넣지 않은 경우)
+    public static String weak(Object... parts) {
+        return "W/" + strong(parts);
+    }
+
+    // 가장 최근 시각 (epoch millis) - 모두 null이면 -1 (Last-Modified를 보내지 않음)
+    public static long lastModified(LocalDateTime... times) {
+        long latest = -1;
+        for (LocalDateTime time : times) {
+            if (time != null) {
+                latest = Math.max(latest, time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+        }
+        return latest;
+    }
+}
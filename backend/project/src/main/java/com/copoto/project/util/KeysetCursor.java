@@ -0,0 +1,65 @@
+package com.copoto.project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 목록 API의 keyset(cursor) 페이지 위치 - 마지막으로 본 행의 (createdAt, id)
+// offset 페이지와 달리 몇 페이지를 넘기든 인덱스에서 이 위치부터 limit개만 읽는다.
+// 클라이언트에는 base64url로 감싼 값(nextCursor)을 주고, "createdAt,id" 원문도 그대로 받는다.
+public final class KeysetCursor {
+
+    // 첫 페이지는 범위 밖의 값으로 시작해서 쿼리를 하나로 유지한다
+    private static final KeysetCursor NEWEST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    private static final KeysetCursor OLDEST = new KeysetCursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    private KeysetCursor(LocalDateTime createdAt, long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(LocalDateTime createdAt, long id) {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor requires createdAt");
+        }
+        return new KeysetCursor(createdAt, id);
+    }
+
+    // after가 없으면 첫 페이지 (newestFirst면 최신 글부터, 아니면 오래된 글부터)
+    public static KeysetCursor decodeOrStart(String after, boolean newestFirst) {
+        if (after == null || after.isBlank()) {
+            return newestFirst ? NEWEST : OLDEST;
+        }
+        String raw = after.trim();
+        try {
+            if (raw.indexOf(',') < 0) {
+                raw = new String(Base64.getUrlDecoder().decode(raw), StandardCharsets.UTF_8);
+            }
+            int comma = raw.lastIndexOf(',');
+            if (comma < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + after);
+            }
+            return of(LocalDateTime.parse(raw.substring(0, comma).trim()), Long.parseLong(raw.substring(comma + 1).trim()));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException도 IllegalArgumentException
+            throw new IllegalArgumentException("Invalid cursor: " + after);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
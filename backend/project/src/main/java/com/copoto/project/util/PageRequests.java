@@ -0,0 +1,61 @@
+package com.copoto.project.util;
+
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// 목록 API의 page/size/sort 요청 파라미터를 Pageable로 변환
+// 인덱스를 타지 않는 정렬을 막기 위해 허용된 정렬 키만 받는다 (잘못된 값이면 IllegalArgumentException)
+public final class PageRequests {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private PageRequests() {
+    }
+
+    // sort 형식: "createdAt,desc" (방향 생략 시 desc)
+    // allowedSorts: 요청 파라미터 이름 -> 엔티티 속성 이름
+    public static Pageable of(int page, int size, String sort, Map<String, String> allowedSorts, Sort defaultSort) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must be >= 0");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE);
+        }
+        if (sort == null || sort.isBlank()) {
+            return PageRequest.of(page, size, defaultSort);
+        }
+
+        String[] parts = sort.split(",");
+        String property = allowedSorts.get(parts[0].trim());
+        if (property == null) {
+            throw new IllegalArgumentException("Unsupported sort: " + parts[0].trim() + " (allowed: " + String.join(", ", allowedSorts.keySet()) + ")");
+        }
+        Sort.Direction direction = parts.length > 1
+            ? Sort.Direction.fromOptionalString(parts[1].trim()).orElseThrow(() -> new IllegalArgumentException("Unsupported sort direction: " + parts[1].trim()))
+            : Sort.Direction.DESC;
+        return PageRequest.of(page, size, Sort.by(direction, property));
+    }
+
+    // 같은 시각에 작성된 글/댓글이 페이지 경계에서 빠지거나 겹치지 않도록 id로 한 번 더 정렬 (첫 정렬 키와 같은 방향)
+    public static Pageable withTieBreak(Pageable pageable, String idProperty) {
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted() || sort.getOrderFor(idProperty) != null) {
+            return pageable;
+        }
+        Sort.Direction direction = sort.iterator().next().getDirection();
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort.and(Sort.by(direction, idProperty)));
+    }
+
+    // keyset(cursor) 페이지용 - 정렬은 쿼리에 고정되어 있으므로 크기만 지정 (생략 시 DEFAULT_SIZE)
+    public static Pageable keyset(Integer limit) {
+        int size = limit == null ? DEFAULT_SIZE : limit;
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SIZE);
+        }
+        return PageRequest.ofSize(size);
+    }
+}
@@ -10,11 +10,20 @@ CREATE TABLE post (
     post_id BIGINT AUTO_INCREMENT PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     contents LONGTEXT NOT NULL,
+    excerpt VARCHAR(151),
     type VARCHAR(50) NOT NULL,
     view_count BIGINT NOT NULL,
     user_id VARCHAR(50) NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    moderation_status VARCHAR(20) NOT NULL DEFAULT 'APPROVED',
+    moderation_score DOUBLE,
+    moderation_score_exact BOOLEAN NOT NULL DEFAULT TRUE,
+    moderation_verdict VARCHAR(20),
+    moderation_model VARCHAR(100),
+    moderated_at TIMESTAMP NULL,
+    comment_count BIGINT NOT NULL DEFAULT 0,
+    comments_changed_at TIMESTAMP NULL,
     FOREIGN KEY (user_id) REFERENCES user(id)
 );
 
@@ -25,6 +34,40 @@ CREATE TABLE comment (
     user_id VARCHAR(50) NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    moderation_status VARCHAR(20) NOT NULL DEFAULT 'APPROVED',
+    moderation_score DOUBLE,
+    moderation_score_exact BOOLEAN NOT NULL DEFAULT TRUE,
+    moderation_verdict VARCHAR(20),
+    moderation_model VARCHAR(100),
+    moderated_at TIMESTAMP NULL,
     FOREIGN KEY (post_id) REFERENCES post(post_id) ON DELETE CASCADE,
     FOREIGN KEY (user_id) REFERENCES user(id) ON DELETE CASCADE
 );
+
+CREATE TABLE moderation_backfill_checkpoint (
+    table_name VARCHAR(50) PRIMARY KEY,
+    last_id BIGINT NOT NULL DEFAULT 0,
+    model_version VARCHAR(100),
+    processed BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NULL
+);
+
+CREATE TABLE moderation_settings (
+    id VARCHAR(50) PRIMARY KEY,
+    threshold DOUBLE NOT NULL,
+    threshold_changed_at TIMESTAMP NULL
+);
+
+CREATE TABLE post_unique_viewers (
+    post_id BIGINT PRIMARY KEY,
+    registers MEDIUMBLOB NOT NULL,
+    estimate BIGINT NOT NULL,
+    updated_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_post_type_created_at ON post (type, created_at);
+CREATE INDEX idx_post_created_at ON post (created_at);
+CREATE INDEX idx_post_user_created_at ON post (user_id, created_at);
+CREATE INDEX idx_comment_post_created_at ON comment (post_id, created_at);
+CREATE INDEX idx_comment_user_created_at ON comment (user_id, created_at);
@@ -0,0 +1,125 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationStatus;
+import com.copoto.project.entity.Post;
+import com.copoto.project.repository.CommentRepository;
+import com.copoto.project.repository.PostRepository;
+import com.copoto.project.service.PostResponseCache;
+
+// 비동기 검출: 수정으로 대체된 이전 작업의 결과는 먼저 끝나든 나중에 끝나든 기록하지 않는다, PENDING으로 남은 행 복구
+class AsyncModerationWorkerTest {
+
+    private final ModerationService moderationService = mock(ModerationService.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final PostResponseCache postResponseCache = mock(PostResponseCache.class);
+
+    // "old"가 들어간 텍스트는 release될 때까지 분류가 끝나지 않는다
+    private final CountDownLatch oldStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseOld = new CountDownLatch(1);
+
+    private AsyncModerationWorker worker(int workers) {
+        return new AsyncModerationWorker(moderationService, postRepository, commentRepository, postResponseCache,
+            true, workers, 16, 0, 2);
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(moderationService.moderate(eq(ContentType.POST), any(String[].class))).thenAnswer(invocation -> {
+            String text = Arrays.stream(invocation.getArguments()).map(String::valueOf).collect(Collectors.joining(" "));
+            if (text.contains("old")) {
+                oldStarted.countDown();
+                releaseOld.await(5, TimeUnit.SECONDS);
+            }
+            return text.contains("hate")
+                ? ModerationResult.of(ModerationLabel.HATE, 0.9, "model")
+                : ModerationResult.of(ModerationLabel.CLEAN, 0.1, "model");
+        });
+        when(postRepository.updateModeration(any(), any(), any(), anyBoolean(), any(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void supersededJobFinishingLastIsNotApplied() throws InterruptedException {
+        AsyncModerationWorker worker = worker(2);
+        worker.moderatePost(1L, "제목", "old");
+        assertTrue(oldStarted.await(5, TimeUnit.SECONDS));
+
+        // 수정: 저장 전에 supersede, 저장 후 새 내용으로 큐에 넣는다
+        worker.supersedePost(1L);
+        worker.moderatePost(1L, "제목", "new hate");
+        verify(postRepository, timeout(5000)).updateModeration(eq(1L), eq(ModerationStatus.REJECTED), eq(0.9),
+            eq(true), eq(ModerationLabel.HATE), any(), any());
+
+        releaseOld.countDown();
+        worker.stop();
+        verify(postRepository, times(1)).updateModeration(any(), any(), any(), anyBoolean(), any(), any(), any());
+        verify(postResponseCache, times(1)).invalidate(1L);
+    }
+
+    @Test
+    void supersededJobFinishingFirstIsNotApplied() throws InterruptedException {
+        // 워커 하나: 이전 작업이 끝난 뒤에 새 작업이 실행된다
+        AsyncModerationWorker worker = worker(1);
+        worker.moderatePost(1L, "제목", "old");
+        assertTrue(oldStarted.await(5, TimeUnit.SECONDS));
+        worker.supersedePost(1L);
+        worker.moderatePost(1L, "제목", "new hate");
+
+        releaseOld.countDown();
+        worker.stop();
+        verify(postRepository, times(1)).updateModeration(any(), any(), any(), anyBoolean(), any(), any(), any());
+        verify(postRepository).updateModeration(eq(1L), eq(ModerationStatus.REJECTED), eq(0.9), eq(true), eq(ModerationLabel.HATE), any(), any());
+    }
+
+    private static Post pending(long postId) {
+        Post post = new Post();
+        post.setPostId(postId);
+        post.setTitle("제목");
+        post.setContents("본문 " + postId);
+        post.setModerationStatus(ModerationStatus.PENDING);
+        return post;
+    }
+
+    @Test
+    void recoverPendingReenqueuesRowsWithoutJobInFlight() throws InterruptedException {
+        AsyncModerationWorker worker = worker(2);
+        // 배치 크기 2 - 두 번째 페이지는 마지막으로 본 id 다음부터
+        when(postRepository.findStalePending(any(), eq(0L), any())).thenReturn(List.of(pending(1), pending(2)));
+        when(postRepository.findStalePending(any(), eq(2L), any())).thenReturn(List.of(pending(3)));
+        // 3번 글은 읽은 뒤 수정되어 더 이상 PENDING이 아니다
+        when(postRepository.updateModeration(eq(3L), any(), any(), anyBoolean(), any(), any(), any())).thenReturn(0);
+        // 2번 글은 수정 중 (이 서버에 진행 중인 작업이 있다)
+        worker.supersedePost(2L);
+
+        assertEquals(2, worker.recoverPending());
+        worker.stop();
+
+        verify(postRepository).updateModeration(eq(1L), eq(ModerationStatus.APPROVED), eq(0.1), eq(true), eq(ModerationLabel.CLEAN), any(), any());
+        verify(postRepository).updateModeration(eq(3L), any(), any(), anyBoolean(), any(), any(), any());
+        verify(postRepository, never()).updateModeration(eq(2L), any(), any(), anyBoolean(), any(), any(), any());
+        verify(postResponseCache).invalidate(1L);
+        verify(postResponseCache, never()).invalidate(3L);
+    }
+}
@@ -0,0 +1,84 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+// 실제 사전(block-lexicon.txt)으로 사전 필터 판정 확인
+class LexiconPreFilterTest {
+
+    private final LexiconPreFilter filter = new LexiconPreFilter(
+        new DefaultResourceLoader(), true, "classpath:moderation/block-lexicon.txt", 2);
+
+    @Test
+    void blocksLexiconWithinWord() {
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("씨발"));
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("아 씨발놈아 진짜"));
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("FUCKING annoying"));
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("what a motherfucker"));
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("ㅅㅂ 뭐야"));
+    }
+
+    @Test
+    void blocksEvasionVariants() {
+        // 한 글자씩 띄어 쓰거나 기호를 끼운 경우
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("씨 발 뭐야"));
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("f.u.c.k you"));
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("f u c k"));
+        // 숫자/기호 치환, 한글 사이 숫자 삽입
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("f@ggot"));
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("씨1발"));
+        assertEquals(LexiconPreFilter.Decision.BLOCK, filter.check("병.신"));
+    }
+
+    @Test
+    void crossWordMatchesGoToModel() {
+        // 단어 경계를 지워야만 사전 표현이 되는 정상 문장은 차단하지 않는다
+        assertEquals(LexiconPreFilter.Decision.UNKNOWN, filter.check("아저씨 발이 아파"));
+        assertEquals(LexiconPreFilter.Decision.UNKNOWN, filter.check("강아지 개 새끼"));
+        assertEquals(0L, filter.getStats().get("blocked"));
+        assertEquals(2L, filter.getStats().get("ambiguous"));
+    }
+
+    @Test
+    void latinPatternMustStartTheWord() {
+        assertEquals(LexiconPreFilter.Decision.UNKNOWN, filter.check("snigger"));
+        assertEquals(LexiconPreFilter.Decision.UNKNOWN, filter.check("he let out a snigger"));
+    }
+
+    @Test
+    void allowsShortOrLetterlessText() {
+        assertEquals(LexiconPreFilter.Decision.ALLOW, filter.check("ㅋㅋ"));
+        assertEquals(LexiconPreFilter.Decision.ALLOW, filter.check("👍👍👍 123!!"));
+        assertEquals(LexiconPreFilter.Decision.ALLOW, filter.check(null));
+        assertEquals(LexiconPreFilter.Decision.UNKNOWN, filter.check("좋은 글 감사합니다"));
+    }
+
+    @Test
+    void disabledFilterAlwaysDefersToModel() {
+        LexiconPreFilter disabled = new LexiconPreFilter(
+            new DefaultResourceLoader(), false, "classpath:moderation/block-lexicon.txt", 2);
+        assertEquals(LexiconPreFilter.Decision.UNKNOWN, disabled.check("씨발"));
+    }
+
+    @Test
+    void tokensCollapseOnlySingleLetterRuns() {
+        assertEquals(List.of("fuck", "you"), TextNormalizer.lexiconTokens("f.u.c.k you"));
+        assertEquals(List.of(TextNormalizer.foldForLexicon("아저씨"), TextNormalizer.foldForLexicon("발이")),
+            TextNormalizer.lexiconTokens("아저씨 발이"));
+        assertEquals(List.of(), TextNormalizer.lexiconTokens("... ??? 289"));
+    }
+
+    @Test
+    void matcherFindsShorterPatternEndingAtSamePosition() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcd", "bc"));
+        assertEquals("bc", matcher.findFirst("xabcx"));
+        // 시작 위치 조건: 앞부분에서 시작하는 패턴만
+        assertNull(matcher.findFirst("xabcx", (pattern, start) -> start == 0));
+        assertEquals("abcd", matcher.findFirst("abcd", (pattern, start) -> start == 0));
+    }
+}
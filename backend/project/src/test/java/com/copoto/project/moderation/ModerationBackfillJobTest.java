@@ -0,0 +1,228 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.copoto.project.entity.ModerationBackfillCheckpoint;
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.repository.ModerationBackfillCheckpointRepository;
+import com.copoto.project.service.PostResponseCache;
+
+// 재검출(backfill) 작업을 H2(MySQL 모드)에서 실제 SQL로 실행 - chunk 단위 진행, 체크포인트 재개, 분류 중 수정된 행 건너뛰기,
+// 점수가 경계값으로 기록된 행 다시 분류
+class ModerationBackfillJobTest {
+
+    private static final String MODEL = "model-v2";
+    private static final Timestamp MODERATED_AT = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+        new DriverManagerDataSource("jdbc:h2:mem:backfill;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final ModerationService moderationService = mock(ModerationService.class);
+    private final HateSpeechClassifier classifier = mock(HateSpeechClassifier.class);
+    private final ModerationBackfillCheckpointRepository checkpointRepository = mock(ModerationBackfillCheckpointRepository.class);
+    private final Map<String, ModerationBackfillCheckpoint> checkpoints = new HashMap<>();
+    // 분류하는 동안 같은 행에 일어나는 일 (텍스트 -> 동작)
+    private final Map<String, Consumer<String>> duringEvaluate = new HashMap<>();
+
+    private final ModerationBackfillJob job = new ModerationBackfillJob(jdbcTemplate, moderationService, classifier,
+        checkpointRepository, new PostResponseCache(100, 1 << 20), 2, 2);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("create table post (post_id bigint primary key, title varchar(255), contents longtext, "
+            + "updated_at timestamp, moderation_status varchar(20) not null default 'APPROVED', moderation_score double, "
+            + "moderation_score_exact boolean not null default true, moderation_verdict varchar(20), moderation_model varchar(100), "
+            + "moderated_at timestamp null)");
+        jdbcTemplate.execute("create table comment (id bigint primary key, content longtext, "
+            + "updated_at timestamp, moderation_status varchar(20) not null default 'APPROVED', moderation_score double, "
+            + "moderation_score_exact boolean not null default true, moderation_verdict varchar(20), moderation_model varchar(100), "
+            + "moderated_at timestamp null)");
+
+        when(classifier.getModelVersion()).thenReturn(MODEL);
+        when(checkpointRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(checkpoints.get(invocation.getArgument(0))));
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> {
+            ModerationBackfillCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoints.put(checkpoint.getTableName(), checkpoint);
+            return checkpoint;
+        });
+        // 텍스트에 "hate"가 있으면 혐오, "unknown"이면 판정 실패
+        when(moderationService.evaluateFully(any(String[].class))).thenAnswer(invocation -> {
+            String text = Arrays.stream(invocation.getArguments()).map(String::valueOf).collect(Collectors.joining(" "));
+            duringEvaluate.forEach((marker, action) -> {
+                if (text.contains(marker)) {
+                    action.accept(marker);
+                }
+            });
+            if (text.contains("unknown")) {
+                return ModerationResult.of(ModerationLabel.UNKNOWN, null, MODEL);
+            }
+            return text.contains("hate")
+                ? ModerationResult.of(ModerationLabel.HATE, 0.9, MODEL)
+                : ModerationResult.of(ModerationLabel.CLEAN, 0.1, MODEL);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table comment");
+        jdbcTemplate.execute("drop table post");
+    }
+
+    private void post(long postId, String contents, String model, Timestamp moderatedAt) {
+        jdbcTemplate.update("insert into post (post_id, title, contents, moderation_verdict, moderation_score, moderation_model, moderated_at) "
+            + "values (?, '제목', ?, ?, ?, ?, ?)", postId, contents, model == null ? null : "CLEAN", model == null ? null : 0.2, model, moderatedAt);
+    }
+
+    private Map<String, Object> row(long postId) {
+        return jdbcTemplate.queryForMap("select moderation_status, moderation_verdict, moderation_model, moderation_score, moderation_score_exact "
+            + "from post where post_id = ?", postId);
+    }
+
+    private Map<String, Object> runToCompletion() throws InterruptedException {
+        job.start(false);
+        long deadline = System.currentTimeMillis() + 10_000;
+        Map<String, Object> progress = job.getProgress();
+        while (!"COMPLETED".equals(progress.get("state")) && !"FAILED".equals(progress.get("state"))
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            progress = job.getProgress();
+        }
+        assertEquals("COMPLETED", progress.get("state"), String.valueOf(progress.get("lastError")));
+        return progress;
+    }
+
+    @Test
+    void reclassifiesInChunksAndLeavesUnknownRowsAlone() throws InterruptedException {
+        post(1, "clean", null, null);
+        post(2, "hate", "model-v1", MODERATED_AT);
+        post(3, "unknown", "model-v1", MODERATED_AT);
+        post(4, "clean", "model-v1", MODERATED_AT);
+        post(5, "clean", null, null);
+        post(6, "hate", ModerationResult.LEXICON_MODEL, MODERATED_AT); // 이미 금칙어 사전으로 판정된 행
+        post(7, "clean", MODEL, MODERATED_AT);                         // 이미 현재 모델로 판정된 행
+
+        Map<String, Object> progress = runToCompletion();
+
+        assertEquals(5L, progress.get("processed"));
+        assertEquals(4L, progress.get("updated"));
+        assertEquals(1L, progress.get("failed"));
+        assertEquals(1L, progress.get("hateFound"));
+        verify(moderationService, times(5)).evaluateFully(any(String[].class));
+
+        assertEquals("REJECTED", row(2).get("moderation_status"));
+        assertEquals(MODEL, row(1).get("moderation_model"));
+        assertEquals(MODEL, row(5).get("moderation_model"));
+        // 판정을 받지 못한 행은 이전 판정을 유지
+        assertEquals("model-v1", row(3).get("moderation_model"));
+        assertEquals(0.2, row(3).get("moderation_score"));
+
+        // chunk(2개)마다 체크포인트를 남기고 마지막에 완료 표시
+        ModerationBackfillCheckpoint checkpoint = checkpoints.get("post");
+        assertEquals(5L, checkpoint.getLastId());
+        assertEquals(5L, checkpoint.getProcessed());
+        assertTrue(checkpoint.isCompleted());
+        assertEquals(MODEL, checkpoint.getModelVersion());
+        assertTrue(checkpoints.get("comment").isCompleted());
+    }
+
+    @Test
+    void resumesFromCheckpointOfSameModel() throws InterruptedException {
+        for (long id = 1; id <= 5; id++) {
+            post(id, "hate", "model-v1", MODERATED_AT);
+        }
+        ModerationBackfillCheckpoint checkpoint = new ModerationBackfillCheckpoint();
+        checkpoint.setTableName("post");
+        checkpoint.setLastId(3L);
+        checkpoint.setProcessed(3L);
+        checkpoint.setModelVersion(MODEL);
+        checkpoints.put("post", checkpoint);
+
+        runToCompletion();
+
+        assertEquals("model-v1", row(3).get("moderation_model"));
+        assertEquals("REJECTED", row(4).get("moderation_status"));
+        assertEquals("REJECTED", row(5).get("moderation_status"));
+        assertEquals(5L, checkpoint.getProcessed());
+        verify(moderationService, times(2)).evaluateFully(any(String[].class));
+    }
+
+    @Test
+    void checkpointOfOtherModelStartsOver() throws InterruptedException {
+        post(1, "hate", "model-v1", MODERATED_AT);
+        ModerationBackfillCheckpoint checkpoint = new ModerationBackfillCheckpoint();
+        checkpoint.setTableName("post");
+        checkpoint.setLastId(10L);
+        checkpoint.setModelVersion("model-v1");
+        checkpoint.setCompleted(true);
+        checkpoints.put("post", checkpoint);
+
+        runToCompletion();
+
+        assertEquals("REJECTED", row(1).get("moderation_status"));
+        assertEquals(1L, checkpoint.getLastId());
+    }
+
+    @Test
+    void rowEditedWhileClassifyingKeepsNewerVerdict() throws InterruptedException {
+        post(1, "old text", "model-v1", MODERATED_AT);
+        post(2, "never moderated", null, null);
+        post(3, "async edit", "model-v1", MODERATED_AT);
+        post(4, "untouched", "model-v1", MODERATED_AT);
+        Timestamp editedAt = Timestamp.valueOf(LocalDateTime.of(2024, 6, 1, 0, 0));
+        // 동기 수정: 새 내용이 혐오로 판정되어 moderated_at이 바뀜
+        duringEvaluate.put("old text", marker -> jdbcTemplate.update("update post set contents = 'hate', moderation_status = 'REJECTED', "
+            + "moderation_verdict = 'HATE', moderation_score = 0.95, moderated_at = ? where post_id = 1", editedAt));
+        duringEvaluate.put("never moderated", marker -> jdbcTemplate.update("update post set moderation_verdict = 'HATE', "
+            + "moderation_status = 'REJECTED', moderation_score = 0.95, moderated_at = ? where post_id = 2", editedAt));
+        // 비동기 수정: PENDING으로 저장된 뒤 워커가 REJECTED로 기록
+        duringEvaluate.put("async edit", marker -> jdbcTemplate.update("update post set moderation_status = 'REJECTED', "
+            + "moderation_verdict = 'HATE', moderation_score = 0.95, moderation_model = ?, moderated_at = ? where post_id = 3", MODEL, editedAt));
+
+        Map<String, Object> progress = runToCompletion();
+
+        for (long id = 1; id <= 3; id++) {
+            assertEquals("REJECTED", row(id).get("moderation_status"), "post " + id);
+            assertEquals(0.95, row(id).get("moderation_score"), "post " + id);
+        }
+        assertEquals(MODEL, row(4).get("moderation_model"));
+        assertEquals(3L, progress.get("skipped"));
+        assertEquals(1L, progress.get("updated"));
+    }
+
+    @Test
+    void inexactScoreOfCurrentModelIsReclassified() throws InterruptedException {
+        post(1, "hate", MODEL, MODERATED_AT);
+        post(2, "clean", MODEL, MODERATED_AT);
+        // 혐오 조각에서 멈춰 점수가 하한으로 기록된 행
+        jdbcTemplate.update("update post set moderation_score_exact = false where post_id = 1");
+
+        Map<String, Object> progress = runToCompletion();
+
+        assertEquals(1L, progress.get("processed"));
+        assertEquals(0.9, row(1).get("moderation_score"));
+        assertEquals(true, row(1).get("moderation_score_exact"));
+        assertEquals(0.2, row(2).get("moderation_score"));
+        verify(moderationService, never()).evaluate(any(String[].class));
+    }
+}
@@ -0,0 +1,79 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+// 분류 결과 캐시: LRU 순서, 개수 한도, TTL
+class ModerationCacheTest {
+
+    private static final ModerationVerdict CLEAN = ModerationVerdict.of(false, 0.1);
+
+    // 실제 키처럼 SHA-256 hex
+    private static String key(String text) {
+        return TextNormalizer.hash(text);
+    }
+
+    @Test
+    void sameTextAfterNormalizationHitsCache() {
+        ModerationCache cache = new ModerationCache(10, 60);
+        cache.put(key("Hello  World"), CLEAN);
+        assertSame(CLEAN, cache.get(key(" hello world ")));
+        assertNull(cache.get(key("hello world!")));
+        assertEquals(1L, cache.getStats().get("hits"));
+        assertEquals(1L, cache.getStats().get("misses"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverEntryLimit() {
+        ModerationCache cache = new ModerationCache(2, 60);
+        cache.put(key("a"), CLEAN);
+        cache.put(key("b"), CLEAN);
+        assertNotNull(cache.get(key("a"))); // a를 최근 사용으로
+        cache.put(key("c"), CLEAN);
+
+        assertNotNull(cache.get(key("a")));
+        assertNull(cache.get(key("b")));
+        assertNotNull(cache.get(key("c")));
+        assertEquals(1L, cache.getStats().get("evictions"));
+    }
+
+    @Test
+    void replacedKeyIsCountedOnce() {
+        ModerationCache cache = new ModerationCache(2, 60);
+        cache.put(key("a"), CLEAN);
+        ModerationVerdict replaced = ModerationVerdict.of(false, 0.2);
+        cache.put(key("a"), replaced); // 같은 키 덮어쓰기는 한도를 두 번 세지 않는다
+        cache.put(key("b"), CLEAN);
+
+        assertSame(replaced, cache.get(key("a")));
+        assertEquals(2, cache.getStats().get("entries"));
+        assertEquals(2 * ModerationCache.ENTRY_BYTES, cache.getStats().get("bytes"));
+        assertEquals(0L, cache.getStats().get("evictions"));
+    }
+
+    @Test
+    void expiredEntryIsRemoved() throws InterruptedException {
+        ModerationCache cache = new ModerationCache(10, 0);
+        cache.put(key("a"), CLEAN);
+        Thread.sleep(2);
+        assertNull(cache.get(key("a")));
+        assertEquals(0, cache.getStats().get("entries"));
+        assertEquals(0L, cache.getStats().get("bytes"));
+    }
+
+    @Test
+    void unavailableVerdictAndZeroLimitAreNotCached() {
+        ModerationCache cache = new ModerationCache(10, 60);
+        cache.put(key("a"), ModerationVerdict.unavailable());
+        assertNull(cache.get(key("a")));
+
+        // max-entries=0이면 캐시를 끈 것과 같다
+        ModerationCache disabled = new ModerationCache(0, 60);
+        disabled.put(key("a"), CLEAN);
+        assertNull(disabled.get(key("a")));
+    }
+}
@@ -0,0 +1,129 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+// 서킷 브레이커 상태 전환(CLOSED -> OPEN -> HALF_OPEN -> CLOSED/OPEN)과 벌크헤드
+class ModerationCircuitBreakerTest {
+
+    private static final String FALLBACK = "fallback";
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    // window 4, 최소 4회, 실패율 50%, 느린 호출 1초, OPEN 유지 50ms, 시험 호출 2회, 동시 호출 2개
+    private static ModerationCircuitBreaker breaker() {
+        return new ModerationCircuitBreaker(4, 4, 0.5, 0.8, 1000, 50, 2, 2, 0);
+    }
+
+    private String call(ModerationCircuitBreaker breaker, boolean success) {
+        return breaker.execute(() -> {
+            calls.incrementAndGet();
+            return success ? "ok" : "error";
+        }, "ok"::equals, FALLBACK);
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        ModerationCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 3; i++) {
+            call(breaker, false);
+        }
+        assertEquals(ModerationCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void opensAtFailureRateAndRejectsWithoutCalling() {
+        ModerationCircuitBreaker breaker = breaker();
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, false);
+        call(breaker, false);
+        assertEquals(ModerationCircuitBreaker.State.OPEN, breaker.getState());
+
+        int before = calls.get();
+        assertEquals(FALLBACK, call(breaker, true));
+        assertEquals(before, calls.get());
+        assertEquals(1L, breaker.getStats().get("rejectedByBreaker"));
+    }
+
+    @Test
+    void halfOpenClosesAfterSuccessfulProbes() throws InterruptedException {
+        ModerationCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            call(breaker, false);
+        }
+        Thread.sleep(60);
+
+        assertEquals("ok", call(breaker, true));
+        assertEquals(ModerationCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals("ok", call(breaker, true));
+        assertEquals(ModerationCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getStats().get("recordedCalls"));
+    }
+
+    @Test
+    void failedProbeReopens() throws InterruptedException {
+        ModerationCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            call(breaker, false);
+        }
+        Thread.sleep(60);
+
+        assertEquals("error", call(breaker, false));
+        assertEquals(ModerationCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(FALLBACK, call(breaker, true));
+    }
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        ModerationCircuitBreaker breaker = new ModerationCircuitBreaker(4, 4, 0.75, 0.8, 1000, 50, 2, 2, 0);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, true);
+        call(breaker, true); // 실패율 50% < 75%
+        call(breaker, false); // 가장 오래된 실패 두 개가 차례로 빠지므로 여전히 50%
+        call(breaker, false);
+        assertEquals(ModerationCircuitBreaker.State.CLOSED, breaker.getState());
+        call(breaker, false); // 성공 하나가 빠져서 실패 3 / 4
+        assertEquals(ModerationCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void bulkheadRejectsWhenAllPermitsAreBusy() throws Exception {
+        ModerationCircuitBreaker breaker = breaker();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CompletableFuture<?>[] busy = new CompletableFuture<?>[2];
+        for (int i = 0; i < busy.length; i++) {
+            busy[i] = CompletableFuture.runAsync(() -> breaker.execute(() -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "ok";
+            }, "ok"::equals, FALLBACK), executor);
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(FALLBACK, call(breaker, true));
+        assertEquals(1L, breaker.getStats().get("rejectedByBulkhead"));
+
+        release.countDown();
+        CompletableFuture.allOf(busy).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertEquals(2, breaker.getStats().get("availableBulkheadPermits"));
+        assertEquals(ModerationCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
@@ -0,0 +1,123 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+// 여러 요청의 분류를 배치로 묶는 디스패처 - 분류기는 배치 크기를 기록하는 가짜 구현
+class ModerationDispatcherTest {
+
+    // 텍스트에 "hate"가 있으면 혐오, 확률은 텍스트 길이로 정해진다 (결과가 요청자에게 제대로 돌아가는지 확인용)
+    private static final class RecordingClassifier implements HateSpeechClassifier {
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public ModerationVerdict classify(String text) {
+            return classifyBatch(List.of(text)).get(0);
+        }
+
+        @Override
+        public List<ModerationVerdict> classifyBatch(List<String> texts) {
+            batchSizes.add(texts.size());
+            if (failing) {
+                throw new IllegalStateException("classifier down");
+            }
+            List<ModerationVerdict> verdicts = new ArrayList<>();
+            for (String text : texts) {
+                verdicts.add(ModerationVerdict.of(text.contains("hate"), text.length() / 100.0));
+            }
+            return verdicts;
+        }
+
+        @Override
+        public String getModelVersion() {
+            return "recording";
+        }
+    }
+
+    private final RecordingClassifier classifier = new RecordingClassifier();
+    private ModerationDispatcher dispatcher;
+
+    private ModerationDispatcher start(long windowMs, int maxBatchSize, int queueCapacity) {
+        ModerationCircuitBreaker breaker = new ModerationCircuitBreaker(50, 10, 0.5, 0.8, 1500, 10000, 3, 16, 50);
+        dispatcher = new ModerationDispatcher(classifier, breaker, windowMs, maxBatchSize, queueCapacity, 2);
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    @AfterEach
+    void stop() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void coalescesSubmissionsWithinWindow() throws Exception {
+        start(200, 32, 64);
+        List<CompletableFuture<ModerationVerdict>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(dispatcher.submit(i % 3 == 0 ? "hate " + "x".repeat(i) : "x".repeat(i + 1)));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            ModerationVerdict verdict = futures.get(i).get(5, TimeUnit.SECONDS);
+            assertTrue(verdict.isAvailable());
+            assertEquals(i % 3 == 0, verdict.isHate(), "text " + i);
+        }
+        // 한 window 안에 들어온 요청은 한 번의 배치로
+        assertEquals(List.of(10), classifier.batchSizes);
+    }
+
+    @Test
+    void splitsAtMaxBatchSize() throws Exception {
+        start(200, 4, 64);
+        List<CompletableFuture<ModerationVerdict>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(dispatcher.submit("text " + i));
+        }
+        for (CompletableFuture<ModerationVerdict> future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS).isAvailable());
+        }
+        assertEquals(10, classifier.batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(classifier.batchSizes.stream().allMatch(size -> size <= 4), classifier.batchSizes.toString());
+    }
+
+    @Test
+    void failedBatchCompletesEveryCallerAsUnavailable() throws Exception {
+        classifier.failing = true;
+        start(50, 32, 64);
+        CompletableFuture<ModerationVerdict> first = dispatcher.submit("a");
+        CompletableFuture<ModerationVerdict> second = dispatcher.submit("b");
+        assertFalse(first.get(5, TimeUnit.SECONDS).isAvailable());
+        assertFalse(second.get(5, TimeUnit.SECONDS).isAvailable());
+    }
+
+    @Test
+    void fullQueueAndStopCompleteImmediately() {
+        // 디스패처 스레드를 시작하지 않아 큐가 비워지지 않는 상태
+        ModerationCircuitBreaker breaker = new ModerationCircuitBreaker(50, 10, 0.5, 0.8, 1500, 10000, 3, 16, 50);
+        ModerationDispatcher idle = new ModerationDispatcher(classifier, breaker, 5, 32, 1, 1);
+        CompletableFuture<ModerationVerdict> queued = idle.submit("a");
+        CompletableFuture<ModerationVerdict> rejected = idle.submit("b");
+        assertTrue(rejected.isDone());
+        assertFalse(rejected.join().isAvailable());
+        assertFalse(queued.isDone());
+
+        // 종료 시 남은 요청은 기다리는 호출자가 멈추지 않도록 unavailable로 완료
+        idle.stop();
+        assertTrue(queued.isDone());
+        assertFalse(queued.join().isAvailable());
+        assertFalse(idle.submit("c").join().isAvailable());
+        assertTrue(classifier.batchSizes.isEmpty());
+    }
+}
@@ -0,0 +1,114 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.copoto.project.entity.ModerationSettings;
+import com.copoto.project.repository.CommentRepository;
+import com.copoto.project.repository.ModerationSettingsRepository;
+import com.copoto.project.repository.PostRepository;
+import com.copoto.project.service.PostResponseCache;
+
+// 관리자가 변경한 임계값은 DB에 저장되고, 시작 시/다른 서버에서 읽어 저장된 판정과 같은 값으로 검출한다
+@ExtendWith(MockitoExtension.class)
+class ModerationSettingsTest {
+
+    @Mock
+    private ModerationSettingsRepository moderationSettingsRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostResponseCache postResponseCache;
+
+    @InjectMocks
+    private ModerationService moderationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(moderationService, "threshold", 0.5); // moderation.threshold
+    }
+
+    private static ModerationSettings stored(double threshold, LocalDateTime changedAt) {
+        ModerationSettings settings = new ModerationSettings();
+        settings.setThreshold(threshold);
+        settings.setThresholdChangedAt(changedAt);
+        return settings;
+    }
+
+    @Test
+    void storedThresholdOverridesConfiguredValue() {
+        LocalDateTime changedAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        when(moderationSettingsRepository.findById(ModerationSettings.DEFAULT_ID)).thenReturn(Optional.of(stored(0.8, changedAt)));
+
+        moderationService.loadSettings();
+        assertEquals(0.8, moderationService.getThreshold());
+        assertEquals(changedAt, moderationService.getThresholdChangedAt());
+        verify(postResponseCache).clear();
+
+        // 바뀐 게 없으면 캐시를 다시 비우지 않는다
+        moderationService.loadSettings();
+        verify(postResponseCache, times(1)).clear();
+    }
+
+    @Test
+    void withoutStoredSettingsKeepsConfiguredValue() {
+        when(moderationSettingsRepository.findById(ModerationSettings.DEFAULT_ID)).thenReturn(Optional.empty());
+
+        moderationService.loadSettings();
+        assertEquals(0.5, moderationService.getThreshold());
+        assertNull(moderationService.getThresholdChangedAt());
+        verify(postResponseCache, never()).clear();
+    }
+
+    @Test
+    void changeThresholdPersistsBeforeReapplying() {
+        when(moderationSettingsRepository.findById(ModerationSettings.DEFAULT_ID)).thenReturn(Optional.empty());
+        when(postRepository.reapplyThreshold(0.7)).thenReturn(3);
+        when(commentRepository.reapplyThreshold(0.7)).thenReturn(5);
+        // 점수가 경계값이라 SQL로 다시 판정하지 못한 행
+        when(postRepository.countNeedingReclassification(0.7)).thenReturn(2L);
+        when(commentRepository.countNeedingReclassification(0.7)).thenReturn(1L);
+
+        Map<String, Object> result = moderationService.changeThreshold(0.7);
+
+        ArgumentCaptor<ModerationSettings> saved = ArgumentCaptor.forClass(ModerationSettings.class);
+        verify(moderationSettingsRepository).save(saved.capture());
+        assertEquals(ModerationSettings.DEFAULT_ID, saved.getValue().getId());
+        assertEquals(0.7, saved.getValue().getThreshold());
+        assertEquals(saved.getValue().getThresholdChangedAt(), moderationService.getThresholdChangedAt());
+        assertEquals(0.7, moderationService.getThreshold());
+        assertEquals(3L, result.get("needsReclassification"));
+    }
+
+    @Test
+    void rejectsOutOfRangeThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> moderationService.changeThreshold(0.0));
+        assertThrows(IllegalArgumentException.class, () -> moderationService.changeThreshold(1.5));
+        verify(moderationSettingsRepository, never()).save(any());
+        assertEquals(0.5, moderationService.getThreshold());
+    }
+}
@@ -0,0 +1,131 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.copoto.project.entity.ModerationLabel;
+
+// singleflight: 같은 텍스트를 동시에 여러 요청이 검사해도 디스패처에는 한 번만 보내고, 모두 같은 결과를 받는다
+@ExtendWith(MockitoExtension.class)
+class ModerationSingleflightTest {
+
+    private static final int CALLERS = 8;
+    private static final String TEXT = "같은 내용의 스팸 댓글";
+
+    @Mock
+    private ModerationDispatcher moderationDispatcher;
+
+    @Mock
+    private ModerationCache moderationCache;
+
+    @Mock
+    private LexiconPreFilter lexiconPreFilter;
+
+    @Mock
+    private HateSpeechClassifier hateSpeechClassifier;
+
+    @InjectMocks
+    private ModerationService moderationService;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    // 디스패처가 돌려주는 future - 모든 요청이 합류한 뒤에 완료시킨다
+    private final CompletableFuture<ModerationVerdict> dispatched = new CompletableFuture<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(moderationService, "threshold", 0.5);
+        ReflectionTestUtils.setField(moderationService, "waitTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(moderationService, "chunkMaxChars", 150);
+        ReflectionTestUtils.setField(moderationService, "chunkMaxParallel", 8);
+        when(lexiconPreFilter.check(anyString())).thenReturn(LexiconPreFilter.Decision.UNKNOWN);
+        when(hateSpeechClassifier.getModelVersion()).thenReturn("model");
+        when(moderationDispatcher.submit(anyString())).thenReturn(dispatched);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    // CALLERS개 요청을 동시에 시작하고, 첫 요청을 뺀 나머지가 진행 중인 future에 합류할 때까지 기다린다
+    private List<Future<ModerationResult>> evaluateConcurrently() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ModerationResult>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> {
+                start.await();
+                return moderationService.evaluate(TEXT);
+            }));
+        }
+        start.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((Long) moderationService.getSingleflightStats().get("coalesced") < CALLERS - 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(CALLERS - 1L, moderationService.getSingleflightStats().get("coalesced"));
+        assertEquals(1, moderationService.getSingleflightStats().get("inFlight"));
+        return results;
+    }
+
+    @Test
+    void concurrentIdenticalTextsAreSubmittedOnce() throws Exception {
+        List<Future<ModerationResult>> results = evaluateConcurrently();
+        ModerationVerdict verdict = ModerationVerdict.of(true, 0.9);
+        dispatched.complete(verdict);
+
+        for (Future<ModerationResult> result : results) {
+            ModerationResult moderation = result.get(5, TimeUnit.SECONDS);
+            assertEquals(ModerationLabel.HATE, moderation.getLabel());
+            assertEquals(0.9, moderation.getScore());
+        }
+        verify(moderationDispatcher, times(1)).submit(TEXT);
+        verify(moderationCache, times(1)).put(TextNormalizer.hash(TEXT), verdict);
+        assertEquals(0, moderationService.getSingleflightStats().get("inFlight"));
+    }
+
+    @Test
+    void failedClassificationReleasesAllWaitersAndIsNotCached() throws Exception {
+        List<Future<ModerationResult>> results = evaluateConcurrently();
+        dispatched.completeExceptionally(new IllegalStateException("AI 서버 오류"));
+
+        for (Future<ModerationResult> result : results) {
+            ModerationResult moderation = result.get(5, TimeUnit.SECONDS);
+            assertEquals(ModerationLabel.UNKNOWN, moderation.getLabel());
+            assertNull(moderation.getScore());
+        }
+        verify(moderationDispatcher, times(1)).submit(TEXT);
+        verify(moderationCache, never()).put(anyString(), any());
+        assertEquals(0, moderationService.getSingleflightStats().get("inFlight"));
+
+        // 실패한 future가 남지 않으므로 다음 요청은 새로 보낸다
+        doReturn(CompletableFuture.completedFuture(ModerationVerdict.of(false, 0.1))).when(moderationDispatcher).submit(anyString());
+        assertEquals(ModerationLabel.CLEAN, moderationService.evaluate(TEXT).getLabel());
+        verify(moderationDispatcher, times(2)).submit(TEXT);
+    }
+}
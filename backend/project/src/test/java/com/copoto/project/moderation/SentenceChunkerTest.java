@@ -0,0 +1,64 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// 긴 텍스트 분할: 짧은 텍스트는 그대로, 줄바꿈/문장 단위로 maxChars 이하로 묶고, 긴 문장은 공백(없으면 길이)에서 자른다
+class SentenceChunkerTest {
+
+    @Test
+    void textWithinLimitIsReturnedAsIs() {
+        String text = "첫 줄\n둘째 줄";
+        List<String> chunks = SentenceChunker.chunk(text, text.length());
+        assertEquals(1, chunks.size());
+        assertSame(text, chunks.get(0)); // 줄바꿈도 나누지 않는다
+
+        assertTrue(SentenceChunker.chunk(null, 10).isEmpty());
+        assertTrue(SentenceChunker.chunk(" \n ", 10).isEmpty());
+    }
+
+    @Test
+    void linesAreSplitOnAnyLineBreak() {
+        // \R: \r\n, \r, \n, 유니코드 줄 구분자(U+2028) 모두 줄바꿈
+        assertEquals(List.of("첫 줄", "둘째 줄", "셋째 줄", "넷째 줄", "다섯째 줄"),
+            SentenceChunker.sentences("첫 줄\r\n둘째 줄\r셋째 줄\n\n  넷째 줄\u2028다섯째 줄\n"));
+    }
+
+    @Test
+    void sentencesArePackedUpToMaxChars() {
+        // "하나. 둘. 셋." -> 문장 경계로 나눈 뒤 공백 하나로 이어서 maxChars 이하로
+        assertEquals(List.of("하나. 둘.", "셋. 넷."), SentenceChunker.chunk("하나. 둘. 셋. 넷.", 8));
+        assertEquals(List.of("첫 줄 둘째 줄", "셋째 줄"), SentenceChunker.chunk("첫 줄\n둘째 줄\n셋째 줄", 9));
+    }
+
+    @Test
+    void longSentenceIsCutAtLastSpaceWithinLimit() {
+        assertEquals(List.of("aaa bbb", "ccc ddd", "eee"), SentenceChunker.chunk("aaa bbb ccc ddd eee", 8));
+    }
+
+    @Test
+    void longSentenceWithoutSpacesIsCutAtMaxChars() {
+        String text = "가".repeat(25);
+        assertEquals(List.of("가".repeat(10), "가".repeat(10), "가".repeat(5)), SentenceChunker.chunk(text, 10));
+    }
+
+    @Test
+    void surrogatePairIsNotCutInHalf() {
+        // 😀은 두 char - maxChars 위치가 쌍의 가운데면 한 칸 앞에서 자른다
+        List<String> chunks = SentenceChunker.chunk("가가가가😀나나", 5);
+        assertEquals(List.of("가가가가", "😀나나"), chunks);
+        for (String chunk : chunks) {
+            assertFalse(Character.isLowSurrogate(chunk.charAt(0)), chunk);
+            assertFalse(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1)), chunk);
+        }
+
+        // 앞으로 물러날 수 없으면 쌍 전체를 한 조각으로 (한도를 넘더라도 끝난다)
+        assertEquals(List.of("😀", "😀"), SentenceChunker.chunk("😀😀", 1));
+    }
+}
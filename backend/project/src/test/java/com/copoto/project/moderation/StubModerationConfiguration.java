@@ -0,0 +1,43 @@
+package com.copoto.project.moderation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+// stub 프로필: 테스트 JVM 안에서 대역 혐오 검출 서버를 띄워 HateSpeechClient가 그 서버를 호출하게 한다
+// 사용하는 테스트 클래스에서
+//   @ActiveProfiles("stub") @Import(StubModerationConfiguration.class)
+//   @DynamicPropertySource static void stub(DynamicPropertyRegistry r) { StubModerationConfiguration.registerUrl(r); }
+@TestConfiguration(proxyBeanMethods = false)
+@Profile("stub")
+public class StubModerationConfiguration {
+
+    private static StubModerationServer server;
+
+    // HateSpeechClient가 만들어지기 전에 URL이 필요하므로 JVM당 하나를 띄워 테스트 컨텍스트들이 함께 쓴다
+    public static synchronized StubModerationServer server() {
+        if (server == null) {
+            try {
+                server = StubModerationServer.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start stub moderation server", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "stub-moderation-shutdown"));
+        }
+        return server;
+    }
+
+    public static void registerUrl(DynamicPropertyRegistry registry) {
+        registry.add("moderation.api.url", () -> server().getUrl());
+    }
+
+    // 컨텍스트가 닫혀도 다른 컨텍스트가 계속 쓰므로 close 하지 않는다
+    @Bean(destroyMethod = "")
+    StubModerationServer stubModerationServer() {
+        return server();
+    }
+}
@@ -0,0 +1,173 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.copoto.project.controller.CommentController;
+import com.copoto.project.controller.PostController;
+import com.copoto.project.dto.ApiResponseCustom;
+import com.copoto.project.dto.CommentRequest;
+import com.copoto.project.dto.CommentResponse;
+import com.copoto.project.dto.post.PostRequest;
+import com.copoto.project.dto.post.PostResponse;
+import com.copoto.project.entity.Comment;
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationStatus;
+import com.copoto.project.entity.Post;
+import com.copoto.project.entity.User;
+import com.copoto.project.repository.CommentRepository;
+import com.copoto.project.repository.PostRepository;
+import com.copoto.project.repository.UserRepository;
+
+// stub 프로필로 게시글/댓글 작성·수정 시 혐오 검출 경로 전체(컨트롤러 -> ModerationService -> HateSpeechClient -> 대역 서버) 확인
+// DB는 H2(MySQL 모드) 메모리 DB, 인증은 JWT 필터 대신 Authentication을 직접 넘긴다
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:stub-moderation;MODE=MySQL;NON_KEYWORDS=USER",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.sql.init.mode=never",
+    "jwt.secret=MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTIzNDU2Nzg5MDE="
+})
+@ActiveProfiles("stub")
+@Import(StubModerationConfiguration.class)
+class StubModerationFlowTest {
+
+    @DynamicPropertySource
+    static void stubModerationUrl(DynamicPropertyRegistry registry) {
+        StubModerationConfiguration.registerUrl(registry);
+    }
+
+    @Autowired
+    private StubModerationServer stub;
+
+    @Autowired
+    private PostController postController;
+
+    @Autowired
+    private CommentController commentController;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findById("stub-user").orElseGet(() -> {
+            User created = new User();
+            created.setId("stub-user");
+            created.setPassword("password");
+            created.setNickname("stub");
+            return userRepository.save(created);
+        });
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    private static PostRequest postRequest(String title, String contents) {
+        PostRequest request = new PostRequest();
+        request.setTitle(title);
+        request.setContents(contents);
+        request.setType("free");
+        return request;
+    }
+
+    private Long createCleanPost() {
+        ResponseEntity<ApiResponseCustom<PostResponse>> created = postController.createPost(
+            postRequest("안녕하세요", "첫 문장입니다. 두 번째 문장입니다."), authentication);
+        assertEquals(200, created.getStatusCode().value());
+        return created.getBody().getData().getPostId();
+    }
+
+    @Test
+    void createPostIsModeratedByStub() {
+        long requestsBefore = stub.getRequestCount();
+        Long postId = createCleanPost();
+        assertTrue(stub.getRequestCount() > requestsBefore);
+
+        Post saved = postRepository.findById(postId).orElseThrow();
+        assertEquals(ModerationStatus.APPROVED, saved.getModerationStatus());
+        assertEquals(ModerationLabel.CLEAN, saved.getModerationVerdict());
+        assertEquals("stub", saved.getModerationModel());
+
+        long postsBefore = postRepository.count();
+        ResponseEntity<ApiResponseCustom<PostResponse>> hate = postController.createPost(
+            postRequest("제목", "이건 [hate] 문장"), authentication);
+        assertEquals(403, hate.getStatusCode().value());
+        assertEquals(postsBefore, postRepository.count());
+    }
+
+    @Test
+    void updatePostChecksOnlyChangedSentences() {
+        Long postId = createCleanPost();
+
+        // 문장이 바뀌지 않은 수정(게시판만 변경)은 모델을 호출하지 않는다
+        long requestsBefore = stub.getRequestCount();
+        PostRequest sameText = postRequest("안녕하세요", "첫 문장입니다. 두 번째 문장입니다.");
+        sameText.setType("notice");
+        assertEquals(200, postController.updatePost(postId, sameText, authentication).getStatusCode().value());
+        assertEquals(requestsBefore, stub.getRequestCount());
+
+        // 새로 추가된 문장에 혐오 표현이 있으면 거부되고 기존 내용이 유지된다
+        ResponseEntity<ApiResponseCustom<PostResponse>> hate = postController.updatePost(postId,
+            postRequest("안녕하세요", "첫 문장입니다. 두 번째 문장입니다. 이건 [hate] 문장"), authentication);
+        assertEquals(403, hate.getStatusCode().value());
+        assertEquals("첫 문장입니다. 두 번째 문장입니다.", postRepository.findById(postId).orElseThrow().getContents());
+
+        ResponseEntity<ApiResponseCustom<PostResponse>> clean = postController.updatePost(postId,
+            postRequest("안녕하세요", "첫 문장입니다. 바뀐 문장입니다."), authentication);
+        assertEquals(200, clean.getStatusCode().value());
+        assertTrue(stub.getRequestCount() > requestsBefore);
+        Post updated = postRepository.findById(postId).orElseThrow();
+        assertEquals("첫 문장입니다. 바뀐 문장입니다.", updated.getContents());
+        assertEquals(ModerationStatus.APPROVED, updated.getModerationStatus());
+        assertEquals(ModerationLabel.CLEAN, updated.getModerationVerdict());
+    }
+
+    @Test
+    void createAndUpdateCommentAreModeratedByStub() {
+        Long postId = createCleanPost();
+
+        CommentRequest request = new CommentRequest();
+        request.setPostId(postId);
+        request.setContent("좋은 글 감사합니다");
+        ResponseEntity<ApiResponseCustom<CommentResponse>> created = commentController.createComment(request, authentication);
+        assertEquals(200, created.getStatusCode().value());
+        Long commentId = created.getBody().getData().getCommentId();
+        assertEquals(ModerationLabel.CLEAN, commentRepository.findById(commentId).orElseThrow().getModerationVerdict());
+
+        request.setContent("[hate] 댓글");
+        assertEquals(403, commentController.createComment(request, authentication).getStatusCode().value());
+
+        assertEquals(405, commentController.updateComment(commentId, Map.of("content", "좋은 글 감사합니다. [hate] 추가"), authentication)
+            .getStatusCode().value());
+        ResponseEntity<ApiResponseCustom<CommentResponse>> updated =
+            commentController.updateComment(commentId, Map.of("content", "좋은 글 감사합니다. 잘 읽었어요"), authentication);
+        assertEquals(200, updated.getStatusCode().value());
+        Comment saved = commentRepository.findById(commentId).orElseThrow();
+        assertEquals("좋은 글 감사합니다. 잘 읽었어요", saved.getContent());
+        assertEquals(ModerationStatus.APPROVED, saved.getModerationStatus());
+    }
+}
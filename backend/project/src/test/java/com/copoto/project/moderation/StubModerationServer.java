@@ -0,0 +1,305 @@
+package com.copoto.project.moderation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// ai/app.py(/predict, /predict_batch)와 같은 응답 형식을 돌려주는 테스트용 대역 서버
+// Python/GPU 없이 게시글/댓글 작성 경로 전체를 성능 테스트할 수 있도록 지연 시간 분포와 오류율을 설정할 수 있다.
+// - 판정은 결정적: 텍스트에 hate marker가 있으면 혐오, 확률은 텍스트 해시로 정해진다
+// - 지연 시간: FIXED / UNIFORM(0~2*mean) / EXPONENTIAL / LOGNORMAL(중앙값=mean), max-ms로 상한
+// - error-rate 비율만큼 500 오류 응답
+//
+// 테스트: @ActiveProfiles("stub")이면 StubModerationConfiguration이 빈 포트로 띄우고 moderation.api.url을 바꾼다.
+// 백엔드에 직접 붙일 때는 단독 실행 후 백엔드를 --moderation.api.url=http://127.0.0.1:5055 로 띄운다
+// (application-stub.properties는 테스트 클래스패스에만 있어 bootRun에서는 보이지 않는다):
+//   java ... com.copoto.project.moderation.StubModerationServer
+//   -Dstub.port=5055 -Dstub.latency.distribution=LOGNORMAL -Dstub.latency.mean-ms=40 -Dstub.error-rate=0.01
+public class StubModerationServer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(StubModerationServer.class);
+
+    public enum Distribution { FIXED, UNIFORM, EXPONENTIAL, LOGNORMAL }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Random random;
+
+    private final Distribution distribution;
+    private final long meanLatencyMs;
+    private final long maxLatencyMs;
+    private final long perItemLatencyMs;
+    private final double lognormalSigma;
+    private final double errorRate;
+    private final List<String> hateMarkers;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong items = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private StubModerationServer(Builder builder) throws IOException {
+        this.distribution = builder.distribution;
+        this.meanLatencyMs = builder.meanLatencyMs;
+        this.maxLatencyMs = builder.maxLatencyMs;
+        this.perItemLatencyMs = builder.perItemLatencyMs;
+        this.lognormalSigma = builder.lognormalSigma;
+        this.errorRate = builder.errorRate;
+        this.hateMarkers = builder.hateMarkers;
+        this.random = builder.seed == null ? null : new Random(builder.seed);
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", builder.port), 0);
+        this.executor = Executors.newFixedThreadPool(builder.threads);
+        server.setExecutor(executor);
+        server.createContext("/predict", this::handlePredict);
+        server.createContext("/predict_batch", this::handlePredictBatch);
+        server.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // 시스템 속성(stub.*)으로 설정
+    public static Builder fromSystemProperties() {
+        Builder builder = new Builder()
+            .port(Integer.getInteger("stub.port", 5055))
+            .threads(Integer.getInteger("stub.threads", 32))
+            .distribution(Distribution.valueOf(System.getProperty("stub.latency.distribution", "FIXED").toUpperCase(Locale.ROOT)))
+            .meanLatencyMs(Long.getLong("stub.latency.mean-ms", 20))
+            .maxLatencyMs(Long.getLong("stub.latency.max-ms", 5000))
+            .perItemLatencyMs(Long.getLong("stub.latency.per-item-ms", 0))
+            .lognormalSigma(Double.parseDouble(System.getProperty("stub.latency.sigma", "0.5")))
+            .errorRate(Double.parseDouble(System.getProperty("stub.error-rate", "0")));
+        if (System.getProperty("stub.seed") != null) {
+            builder.seed(Long.getLong("stub.seed"));
+        }
+        if (System.getProperty("stub.hate-markers") != null) {
+            builder.hateMarkers(List.of(System.getProperty("stub.hate-markers").split(",")));
+        }
+        return builder;
+    }
+
+    public static void main(String[] args) throws IOException {
+        StubModerationServer stub = fromSystemProperties().start();
+        log.info("Stub moderation server listening on {}", stub.getUrl());
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getItemCount() {
+        return items.get();
+    }
+
+    public long getErrorCount() {
+        return errors.get();
+    }
+
+    private void handlePredict(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        if (body == null || !body.hasNonNull("text") || body.get("text").asText().isEmpty()) {
+            respond(exchange, 400, Map.of("error", "JSON 데이터에 'text' 필드가 없습니다."));
+            return;
+        }
+        if (simulate(exchange, 1)) {
+            respond(exchange, 200, verdict(body.get("text").asText()));
+        }
+    }
+
+    private void handlePredictBatch(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        if (body == null || !body.has("texts") || !body.get("texts").isArray() || body.get("texts").isEmpty()) {
+            respond(exchange, 400, Map.of("error", "JSON 데이터에 비어있지 않은 'texts' 배열이 필요합니다."));
+            return;
+        }
+        JsonNode texts = body.get("texts");
+        if (simulate(exchange, texts.size())) {
+            List<Map<String, Object>> results = new ArrayList<>(texts.size());
+            texts.forEach(text -> results.add(verdict(text.asText())));
+            respond(exchange, 200, Map.of("results", results));
+        }
+    }
+
+    // 지연 시간을 흉내 내고, 오류를 주입했으면 false
+    private boolean simulate(HttpExchange exchange, int itemCount) throws IOException {
+        requests.incrementAndGet();
+        items.addAndGet(itemCount);
+        sleep(sampleLatencyMs() + perItemLatencyMs * itemCount);
+        if (errorRate > 0 && nextDouble() < errorRate) {
+            errors.incrementAndGet();
+            respond(exchange, 500, Map.of("error", "예측 중 오류 발생: injected failure"));
+            return false;
+        }
+        return true;
+    }
+
+    private long sampleLatencyMs() {
+        double sample = switch (distribution) {
+            case FIXED -> meanLatencyMs;
+            case UNIFORM -> nextDouble() * 2 * meanLatencyMs;
+            case EXPONENTIAL -> -meanLatencyMs * Math.log(1 - nextDouble());
+            case LOGNORMAL -> meanLatencyMs * Math.exp(lognormalSigma * nextGaussian());
+        };
+        return Math.min(maxLatencyMs, Math.max(0, Math.round(sample)));
+    }
+
+    private double nextDouble() {
+        if (random == null) {
+            return ThreadLocalRandom.current().nextDouble();
+        }
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private double nextGaussian() {
+        if (random == null) {
+            return ThreadLocalRandom.current().nextGaussian();
+        }
+        synchronized (random) {
+            return random.nextGaussian();
+        }
+    }
+
+    // 같은 텍스트는 항상 같은 결과
+    private Map<String, Object> verdict(String text) {
+        boolean hate = hateMarkers.stream().anyMatch(text::contains);
+        double jitter = (Math.floorMod(text.hashCode(), 1000)) / 1000.0;
+        double hateProbability = hate ? 0.9 + jitter * 0.09 : jitter * 0.3;
+
+        Map<String, Object> probability = new LinkedHashMap<>();
+        probability.put("not_hate", 1.0 - hateProbability);
+        probability.put("hate", hateProbability);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("is_hate", hate ? 1 : 0);
+        result.put("probability", probability);
+        return result;
+    }
+
+    private JsonNode readBody(HttpExchange exchange) {
+        try (InputStream in = exchange.getRequestBody()) {
+            return objectMapper.readTree(in);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static class Builder {
+        private int port = 0; // 0이면 빈 포트 자동 선택
+        private int threads = 32;
+        private Distribution distribution = Distribution.FIXED;
+        private long meanLatencyMs = 0;
+        private long maxLatencyMs = 5000;
+        private long perItemLatencyMs = 0;
+        private double lognormalSigma = 0.5;
+        private double errorRate = 0.0;
+        private Long seed;
+        private List<String> hateMarkers = List.of("[hate]");
+
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public Builder distribution(Distribution distribution) {
+            this.distribution = distribution;
+            return this;
+        }
+
+        public Builder meanLatencyMs(long meanLatencyMs) {
+            this.meanLatencyMs = meanLatencyMs;
+            return this;
+        }
+
+        public Builder maxLatencyMs(long maxLatencyMs) {
+            this.maxLatencyMs = maxLatencyMs;
+            return this;
+        }
+
+        public Builder perItemLatencyMs(long perItemLatencyMs) {
+            this.perItemLatencyMs = perItemLatencyMs;
+            return this;
+        }
+
+        public Builder lognormalSigma(double lognormalSigma) {
+            this.lognormalSigma = lognormalSigma;
+            return this;
+        }
+
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder hateMarkers(List<String> hateMarkers) {
+            this.hateMarkers = List.copyOf(hateMarkers);
+            return this;
+        }
+
+        public StubModerationServer start() throws IOException {
+            return new StubModerationServer(this);
+        }
+    }
+}
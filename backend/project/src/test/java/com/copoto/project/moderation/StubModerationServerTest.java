@@ -0,0 +1,61 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// 대역 서버가 ai/app.py와 같은 계약을 지키는지 실제 HateSpeechClient로 확인
+class StubModerationServerTest {
+
+    private static HateSpeechClient clientFor(StubModerationServer stub) {
+        return new HateSpeechClient(stub.getUrl(), 8, 8, 300, 2000, 2500, "stub");
+    }
+
+    @Test
+    void classifiesDeterministically() throws Exception {
+        try (StubModerationServer stub = StubModerationServer.builder().start()) {
+            HateSpeechClient client = clientFor(stub);
+
+            ModerationVerdict hate = client.classify("이건 [hate] 문장");
+            ModerationVerdict clean = client.classify("안녕하세요");
+            assertTrue(hate.isAvailable());
+            assertTrue(hate.isHate());
+            assertFalse(clean.isHate());
+            assertEquals(clean.getHateProbability(), client.classify("안녕하세요").getHateProbability());
+
+            List<ModerationVerdict> batch = client.classifyBatch(List.of("안녕하세요", "이건 [hate] 문장", "반갑습니다"));
+            assertEquals(3, batch.size());
+            assertFalse(batch.get(0).isHate());
+            assertTrue(batch.get(1).isHate());
+            assertFalse(batch.get(2).isHate());
+            client.close();
+        }
+    }
+
+    @Test
+    void injectedErrorsBecomeUnavailable() throws Exception {
+        try (StubModerationServer stub = StubModerationServer.builder().errorRate(1.0).start()) {
+            HateSpeechClient client = clientFor(stub);
+
+            assertFalse(client.classify("안녕하세요").isAvailable());
+            assertEquals(1, stub.getErrorCount());
+            client.close();
+        }
+    }
+
+    @Test
+    void latencyIsInjected() throws Exception {
+        try (StubModerationServer stub = StubModerationServer.builder().meanLatencyMs(50).start()) {
+            HateSpeechClient client = clientFor(stub);
+
+            long start = System.nanoTime();
+            client.classify("안녕하세요");
+            assertTrue((System.nanoTime() - start) / 1_000_000 >= 50);
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.copoto.project.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// 작은 vocab으로 BertTokenizer(do_lower_case=false)와 같은 규칙인지 확인
+class WordPieceTokenizerTest {
+
+    // 줄 번호 = 토큰 id
+    private static final List<String> VOCAB = List.of(
+        "[PAD]", "[UNK]", "[CLS]", "[SEP]",  // 0 ~ 3
+        "안녕", "##하세요", "하", "##세요",     // 4 ~ 7
+        "!", "hello", "##lo", "hel",         // 8 ~ 11
+        "中", "문장", "?", "Hello");         // 12 ~ 15
+
+    @TempDir
+    Path dir;
+
+    private WordPieceTokenizer tokenizer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tokenizer = new WordPieceTokenizer(Files.write(dir.resolve("vocab.txt"), VOCAB, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void greedyLongestMatchWithContinuationPieces() {
+        assertArrayEquals(new int[] { 2, 4, 5, 3 }, tokenizer.encode("안녕하세요", 128));
+        // 대소문자를 구분한다 (do_lower_case=false)
+        assertArrayEquals(new int[] { 2, 9, 15, 3 }, tokenizer.encode("hello Hello", 128));
+    }
+
+    @Test
+    void splitsOnWhitespacePunctuationAndCjk() {
+        assertArrayEquals(new int[] { 2, 4, 5, 8, 13, 14, 3 }, tokenizer.encode("안녕하세요!  문장?", 128));
+        assertArrayEquals(new int[] { 2, 12, 13, 3 }, tokenizer.encode("中문장", 128));
+    }
+
+    @Test
+    void unknownRemainderMakesWholeWordUnknown() {
+        // "안녕"은 있지만 "##xyz"가 없으므로 단어 전체가 [UNK] 하나
+        assertArrayEquals(new int[] { 2, 1, 13, 3 }, tokenizer.encode("안녕xyz 문장", 128));
+        assertArrayEquals(new int[] { 2, 1, 3 }, tokenizer.encode("안".repeat(101), 128));
+    }
+
+    @Test
+    void dropsControlCharactersAndNormalizesToNfc() {
+        assertArrayEquals(new int[] { 2, 4, 13, 3 }, tokenizer.encode("안녕\u0000 \u200B문장", 128));
+        assertArrayEquals(new int[] { 2, 4, 3 }, tokenizer.encode(Normalizer.normalize("안녕", Normalizer.Form.NFD), 128));
+        assertArrayEquals(new int[] { 2, 3 }, tokenizer.encode("", 128));
+    }
+
+    @Test
+    void truncatesToMaxLengthKeepingSpecialTokens() {
+        int[] ids = tokenizer.encode("안녕 문장 안녕 문장", 4);
+        assertArrayEquals(new int[] { 2, 4, 13, 3 }, ids);
+        assertEquals(0, tokenizer.getPadId());
+    }
+
+    @Test
+    void rejectsVocabWithoutSpecialTokens() throws IOException {
+        Path broken = Files.write(dir.resolve("broken.txt"), List.of("[PAD]", "[UNK]", "[CLS]"), StandardCharsets.UTF_8);
+        assertThrows(IllegalArgumentException.class, () -> new WordPieceTokenizer(broken));
+    }
+}
@@ -0,0 +1,172 @@
+package com.copoto.project.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.copoto.project.entity.Comment;
+import com.copoto.project.entity.Post;
+import com.copoto.project.entity.User;
+import com.copoto.project.util.KeysetCursor;
+import com.copoto.project.util.PageRequests;
+
+// 목록 조회가 행 개수만큼 user/post를 따로 읽지 않는지(N+1) 실행된 SQL 문 개수로 확인
+// 목록 응답을 만들 때처럼 getUser().getId() / getPost().getPostId()까지 호출한 뒤 센다
+// H2(MySQL 모드) 메모리 DB 사용 - user가 H2 예약어라 NON_KEYWORDS로 풀어 준다
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:list-query-count;MODE=MySQL;NON_KEYWORDS=USER",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ListQueryCountTest {
+
+    // 목록 한 번에 허용하는 SQL 문 개수 - 댓글/작성자 수와 무관해야 한다
+    private static final long MAX_LIST_STATEMENTS = 1;
+
+    private static final int USERS = 5;
+    private static final int POSTS = 3;
+    private static final int COMMENTS_PER_POST = 40;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setId("user" + i);
+            user.setPassword("password");
+            user.setNickname("nick" + i);
+            users.add(entityManager.persist(user));
+        }
+        for (int i = 0; i < POSTS; i++) {
+            Post post = new Post();
+            post.setTitle("title" + i);
+            post.setContents("contents ".repeat(1000));
+            post.setType("free");
+            post.setView_count(0L);
+            post.setUser(users.get(i % USERS));
+            posts.add(entityManager.persist(post));
+            for (int j = 0; j < COMMENTS_PER_POST; j++) {
+                Comment comment = new Comment();
+                comment.setContent("comment" + j);
+                comment.setPost(post);
+                comment.setUser(users.get(j % USERS));
+                entityManager.persist(comment);
+            }
+        }
+    }
+
+    @Test
+    void commentPageDoesNotLoadUsersOrPosts() {
+        Long postId = posts.get(0).getPostId();
+        KeysetCursor start = KeysetCursor.decodeOrStart(null, false);
+        long statements = countStatements(() -> {
+            List<Comment> page = commentRepository.findVisibleByPostAfter(postId, start.getCreatedAt(), start.getId(), null,
+                PageRequests.keyset(PageRequests.MAX_SIZE)).getContent();
+            assertEquals(COMMENTS_PER_POST, page.size());
+            page.forEach(ListQueryCountTest::readIds);
+        });
+        assertWithinLimit(statements);
+    }
+
+    @Test
+    void pagedThreadDoesNotLoadUsersOrPosts() {
+        Long postId = posts.get(1).getPostId();
+        long statements = countStatements(() -> {
+            List<Comment> page = commentRepository.findVisibleByPost(postId, null,
+                PageRequest.of(0, PageRequests.DEFAULT_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "id"))).getContent();
+            assertEquals(PageRequests.DEFAULT_SIZE, page.size());
+            page.forEach(ListQueryCountTest::readIds);
+        });
+        assertWithinLimit(statements);
+    }
+
+    @Test
+    void userCommentsDoNotLoadUsersOrPosts() {
+        long statements = countStatements(() -> {
+            List<Comment> page = commentRepository.findVisibleByUser("user0", null,
+                PageRequest.of(0, PageRequests.MAX_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "id"))).getContent();
+            assertEquals(POSTS * COMMENTS_PER_POST / USERS, page.size());
+            page.forEach(ListQueryCountTest::readIds);
+        });
+        assertWithinLimit(statements);
+    }
+
+    @Test
+    void allCommentsDoNotLoadUsersOrPosts() {
+        long statements = countStatements(() -> {
+            List<Comment> comments = commentRepository.findAll();
+            assertEquals(POSTS * COMMENTS_PER_POST, comments.size());
+            comments.forEach(ListQueryCountTest::readIds);
+        });
+        assertWithinLimit(statements);
+    }
+
+    @Test
+    void allPostsDoNotLoadUsers() {
+        long statements = countStatements(() -> {
+            List<Post> all = postRepository.findAll();
+            assertEquals(POSTS, all.size());
+            all.forEach(post -> post.getUser().getId());
+        });
+        assertWithinLimit(statements);
+    }
+
+    @Test
+    void postSummariesAreOneStatement() {
+        long statements = countStatements(() -> {
+            assertEquals(POSTS, postRepository.findVisibleByType("free", null, PageRequests.keyset(PageRequests.MAX_SIZE)).getNumberOfElements());
+            KeysetCursor start = KeysetCursor.decodeOrStart(null, true);
+            assertEquals(POSTS, postRepository.findVisibleBefore(start.getCreatedAt(), start.getId(), null, PageRequests.keyset(PageRequests.MAX_SIZE)).getNumberOfElements());
+        });
+        assertTrue(statements <= 2 * MAX_LIST_STATEMENTS, "executed " + statements + " statements");
+    }
+
+    private static void readIds(Comment comment) {
+        comment.getUser().getId();
+        comment.getPost().getPostId();
+    }
+
+    // 영속성 컨텍스트를 비운 뒤(1차 캐시 없이) action이 실행한 SQL 문 개수
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static void assertWithinLimit(long statements) {
+        assertTrue(statements <= MAX_LIST_STATEMENTS, "executed " + statements + " statements (max " + MAX_LIST_STATEMENTS + ")");
+    }
+}
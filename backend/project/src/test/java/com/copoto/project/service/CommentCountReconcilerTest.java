@@ -0,0 +1,88 @@
+package com.copoto.project.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.copoto.project.dto.post.PostResponse;
+import com.copoto.project.dto.post.PostVersion;
+import com.copoto.project.entity.ModerationStatus;
+
+// comment_count 보정 작업을 H2(MySQL 모드)에서 실제 SQL로 실행 - chunk 크기보다 많은 글이 어긋난 경우 포함
+class CommentCountReconcilerTest {
+
+    private static final Timestamp UPDATED_AT = Timestamp.valueOf(LocalDateTime.of(2024, 3, 1, 12, 0));
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+        new DriverManagerDataSource("jdbc:h2:mem:reconciler;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final PostResponseCache postResponseCache = new PostResponseCache(100, 1 << 20);
+    private final CommentCountReconciler reconciler = new CommentCountReconciler(jdbcTemplate, postResponseCache, 2);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("create table post (post_id bigint primary key, comment_count bigint not null default 0, "
+            + "comments_changed_at timestamp, updated_at timestamp)");
+        jdbcTemplate.execute("create table comment (id bigint auto_increment primary key, post_id bigint not null)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table comment");
+        jdbcTemplate.execute("drop table post");
+    }
+
+    private void post(long postId, long storedCount, int actualComments) {
+        jdbcTemplate.update("insert into post (post_id, comment_count, updated_at) values (?, ?, ?)", postId, storedCount, UPDATED_AT);
+        for (int i = 0; i < actualComments; i++) {
+            jdbcTemplate.update("insert into comment (post_id) values (?)", postId);
+        }
+    }
+
+    private long storedCount(long postId) {
+        return jdbcTemplate.queryForObject("select comment_count from post where post_id = ?", Long.class, postId);
+    }
+
+    private void cache(long postId) {
+        PostResponse response = new PostResponse();
+        response.setPostId(postId);
+        postResponseCache.putIfCurrent(postId, response,
+            new PostVersion(postId, "user1", ModerationStatus.APPROVED, null, null, null), postResponseCache.currentGeneration());
+    }
+
+    @Test
+    void repairsDriftedCountsAcrossChunks() {
+        post(1, 0, 3);  // 새 컬럼 기본값 0
+        post(2, 2, 2);  // 맞는 값
+        post(3, 5, 1);  // cascade 삭제로 줄어든 댓글
+        post(4, -1, 0); // 중복 감소
+        post(5, 0, 4);
+        cache(2);
+        cache(3);
+
+        assertEquals(4L, reconciler.reconcile());
+
+        assertEquals(3L, storedCount(1));
+        assertEquals(2L, storedCount(2));
+        assertEquals(1L, storedCount(3));
+        assertEquals(0L, storedCount(4));
+        assertEquals(4L, storedCount(5));
+        // 보정한 글만 캐시에서 빠지고 comments_changed_at이 갱신된다 (updated_at은 그대로)
+        assertNotNull(postResponseCache.getVersion(2L));
+        assertNull(postResponseCache.getVersion(3L));
+        assertNull(jdbcTemplate.queryForObject("select comments_changed_at from post where post_id = 2", Timestamp.class));
+        assertNotNull(jdbcTemplate.queryForObject("select comments_changed_at from post where post_id = 3", Timestamp.class));
+        assertEquals(UPDATED_AT, jdbcTemplate.queryForObject("select updated_at from post where post_id = 3", Timestamp.class));
+
+        // 다시 실행하면 고칠 것이 없다
+        assertEquals(0L, reconciler.reconcile());
+    }
+}
@@ -0,0 +1,144 @@
+package com.copoto.project.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.copoto.project.entity.Comment;
+import com.copoto.project.entity.Post;
+import com.copoto.project.entity.User;
+import com.copoto.project.moderation.AsyncModerationWorker;
+import com.copoto.project.moderation.ModerationService;
+import com.copoto.project.repository.CommentRepository;
+import com.copoto.project.repository.PostRepository;
+
+// 댓글 작성/삭제 시 post.comment_count 증감 - 같은 트랜잭션에서, 실제로 지운 경우에만 감소, 캐시 무효화는 커밋 후
+@ExtendWith(MockitoExtension.class)
+class CommentCountTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ModerationService moderationService;
+
+    @Mock
+    private AsyncModerationWorker asyncModerationWorker;
+
+    @Mock
+    private PostResponseCache postResponseCache;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private final User author = new User();
+    private final Post post = new Post();
+
+    @BeforeEach
+    void setUp() {
+        author.setId("author");
+        post.setPostId(1L);
+    }
+
+    private Comment existingComment() {
+        Comment comment = new Comment();
+        comment.setId(7L);
+        comment.setPost(post);
+        comment.setUser(author);
+        when(commentRepository.findById(7L)).thenReturn(Optional.of(comment));
+        return comment;
+    }
+
+    @Test
+    void createIncrementsCountAndInvalidatesCachedPost() {
+        Comment comment = new Comment();
+        comment.setContent("댓글");
+        when(commentRepository.save(comment)).thenReturn(comment);
+
+        commentService.createComment(comment, post, author);
+
+        verify(postRepository).addCommentCount(eq(1L), eq(1L), any());
+        verify(postResponseCache).invalidate(1L);
+    }
+
+    @Test
+    void cachedPostIsInvalidatedOnlyAfterCommit() {
+        Comment comment = new Comment();
+        when(commentRepository.save(comment)).thenReturn(comment);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            commentService.createComment(comment, post, author);
+
+            // 커밋 전에는 그대로 - 그 사이 캐시 미스로 읽은 이전 댓글 수가 남지 않도록
+            verify(postResponseCache, never()).invalidate(anyLong());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(postResponseCache).invalidate(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void createAndDeleteAreTransactional() throws NoSuchMethodException {
+        // 저장/삭제와 comment_count 증감이 따로 커밋되지 않는다
+        assertTrue(CommentService.class.getMethod("createComment", Comment.class, Post.class, User.class)
+            .isAnnotationPresent(Transactional.class));
+        assertTrue(CommentService.class.getMethod("deleteComment", Long.class, User.class)
+            .isAnnotationPresent(Transactional.class));
+    }
+
+    @Test
+    void deleteDecrementsCount() {
+        existingComment();
+        when(commentRepository.deleteComment(7L)).thenReturn(1);
+
+        commentService.deleteComment(7L, author);
+
+        verify(postRepository).addCommentCount(eq(1L), eq(-1L), any());
+        verify(postResponseCache).invalidate(1L);
+    }
+
+    @Test
+    void concurrentDeleteDecrementsOnlyOnce() {
+        existingComment();
+        // 다른 요청이 먼저 지웠으면 영향받은 행이 없으므로 감소하지 않는다
+        when(commentRepository.deleteComment(7L)).thenReturn(0);
+
+        commentService.deleteComment(7L, author);
+
+        verify(postRepository, never()).addCommentCount(anyLong(), anyLong(), any());
+        verifyNoInteractions(postResponseCache);
+    }
+
+    @Test
+    void onlyAuthorCanDelete() {
+        existingComment();
+        User other = new User();
+        other.setId("other");
+
+        assertThrows(SecurityException.class, () -> commentService.deleteComment(7L, other));
+        verify(commentRepository, never()).deleteComment(anyLong());
+        verifyNoInteractions(postRepository);
+    }
+}
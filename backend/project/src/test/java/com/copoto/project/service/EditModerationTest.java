@@ -0,0 +1,214 @@
+package com.copoto.project.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.copoto.project.entity.Comment;
+import com.copoto.project.entity.ModerationLabel;
+import com.copoto.project.entity.ModerationStatus;
+import com.copoto.project.entity.Post;
+import com.copoto.project.entity.User;
+import com.copoto.project.moderation.AsyncModerationWorker;
+import com.copoto.project.moderation.ContentType;
+import com.copoto.project.moderation.HateSpeechException;
+import com.copoto.project.moderation.ModerationResult;
+import com.copoto.project.moderation.ModerationService;
+import com.copoto.project.repository.CommentRepository;
+import com.copoto.project.repository.PostRepository;
+
+// 게시글/댓글 수정 시 혐오 검출: 이전 내용을 신뢰할 때만 바뀐 문장만 검사하고, 비동기 모드에서는 PENDING으로 다시 검사
+@ExtendWith(MockitoExtension.class)
+class EditModerationTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ModerationService moderationService;
+
+    @Mock
+    private AsyncModerationWorker asyncModerationWorker;
+
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private PostUniqueViewerCounter postUniqueViewerCounter;
+
+    @Mock
+    private PostResponseCache postResponseCache;
+
+    @InjectMocks
+    private PostService postService;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private final User author = new User();
+
+    @BeforeEach
+    void setUp() {
+        author.setId("author");
+    }
+
+    private Post post(ModerationStatus status, ModerationLabel verdict, Double score) {
+        Post post = new Post();
+        post.setPostId(1L);
+        post.setTitle("제목");
+        post.setContents("본문");
+        post.setType("free");
+        post.setUser(author);
+        post.setModerationStatus(status);
+        post.setModerationVerdict(verdict);
+        post.setModerationScore(score);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        return post;
+    }
+
+    private void savesPost() {
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void cleanPostSendsOnlyChangedSentencesAndKeepsHigherScore() {
+        Post post = post(ModerationStatus.APPROVED, ModerationLabel.CLEAN, 0.3);
+        savesPost();
+        when(moderationService.moderateEdit(eq(ContentType.POST), eq(List.of("제목", "본문")), eq("제목"), eq("새 본문")))
+            .thenReturn(Optional.of(ModerationResult.of(ModerationLabel.CLEAN, 0.1, "model")));
+
+        Post updated = postService.updatePost(1L, "제목", "새 본문", "notice", author);
+
+        assertEquals("새 본문", updated.getContents());
+        assertEquals("notice", updated.getType());
+        assertEquals(ModerationStatus.APPROVED, updated.getModerationStatus());
+        // 남아 있는 기존 문장의 점수보다 낮게 기록하지 않는다 - 지워진 문장의 점수일 수 있으므로 경계값으로 표시
+        assertEquals(0.3, post.getModerationScore());
+        assertFalse(post.isModerationScoreExact());
+        verify(postResponseCache).invalidate(1L);
+    }
+
+    @Test
+    void untrustedPreviousVerdictRechecksEverything() {
+        Object[][] cases = {
+            { ModerationStatus.APPROVED, ModerationLabel.UNKNOWN }, // fail-open으로 통과
+            { ModerationStatus.APPROVED, null },                    // 판정 기록이 없는 기존 글
+            { ModerationStatus.PENDING, ModerationLabel.CLEAN },    // 이전 수정이 아직 검출 중
+            { ModerationStatus.REJECTED, ModerationLabel.HATE },
+        };
+        savesPost();
+        when(moderationService.moderateEdit(eq(ContentType.POST), eq(List.of()), eq("제목"), eq("새 본문")))
+            .thenReturn(Optional.of(ModerationResult.of(ModerationLabel.CLEAN, 0.2, "model")));
+        for (Object[] c : cases) {
+            Post post = post((ModerationStatus) c[0], (ModerationLabel) c[1], 0.9);
+
+            postService.updatePost(1L, "제목", "새 본문", "free", author);
+
+            String label = c[0] + "/" + c[1];
+            assertEquals(0.2, post.getModerationScore(), label);
+            assertEquals(ModerationLabel.CLEAN, post.getModerationVerdict(), label);
+            assertEquals(ModerationStatus.APPROVED, post.getModerationStatus(), label);
+        }
+    }
+
+    @Test
+    void hateInChangedSentenceRejectsEdit() {
+        Post post = post(ModerationStatus.APPROVED, ModerationLabel.CLEAN, 0.1);
+        when(moderationService.moderateEdit(eq(ContentType.POST), eq(List.of("제목", "본문")), eq("제목"), eq("혐오 문장")))
+            .thenReturn(Optional.of(ModerationResult.of(ModerationLabel.HATE, 0.95, "model")));
+
+        assertThrows(HateSpeechException.class, () -> postService.updatePost(1L, "제목", "혐오 문장", "free", author));
+        assertEquals("본문", post.getContents());
+        verify(postRepository, never()).save(any());
+    }
+
+    @Test
+    void onlyAuthorCanEdit() {
+        post(ModerationStatus.APPROVED, ModerationLabel.CLEAN, 0.1);
+        User other = new User();
+        other.setId("other");
+        assertThrows(SecurityException.class, () -> postService.updatePost(1L, "제목", "본문", "free", other));
+        verifyNoInteractions(moderationService);
+    }
+
+    @Test
+    void asyncModeKeepsPostPendingAndReenqueues() {
+        Post post = post(ModerationStatus.PENDING, null, null);
+        savesPost();
+        when(asyncModerationWorker.isEnabled()).thenReturn(true);
+
+        Post updated = postService.updatePost(1L, "새 제목", "새 본문", "free", author);
+
+        assertEquals(ModerationStatus.PENDING, updated.getModerationStatus());
+        // 이전 작업의 결과가 기록되지 않도록 저장 전에 supersede, 저장 후 새 내용으로 큐에 넣는다
+        InOrder order = inOrder(asyncModerationWorker, postRepository);
+        order.verify(asyncModerationWorker).supersedePost(1L);
+        order.verify(postRepository).save(post);
+        order.verify(asyncModerationWorker).moderatePost(1L, "새 제목", "새 본문");
+        verifyNoInteractions(moderationService);
+    }
+
+    private Comment comment(ModerationStatus status, ModerationLabel verdict) {
+        Comment comment = new Comment();
+        comment.setId(7L);
+        comment.setContent("첫 문장. 둘째 문장.");
+        comment.setUser(author);
+        comment.setModerationStatus(status);
+        comment.setModerationVerdict(verdict);
+        comment.setModerationScore(0.3);
+        when(commentRepository.findById(7L)).thenReturn(Optional.of(comment));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return comment;
+    }
+
+    @Test
+    void cleanCommentSendsPreviousContent() {
+        Comment comment = comment(ModerationStatus.APPROVED, ModerationLabel.CLEAN);
+        when(moderationService.moderateEdit(eq(ContentType.COMMENT), eq(List.of("첫 문장. 둘째 문장.")), eq("첫 문장. 바뀐 문장.")))
+            .thenReturn(Optional.of(ModerationResult.of(ModerationLabel.CLEAN, 0.5, "model")));
+
+        commentService.updateComment(7L, "첫 문장. 바뀐 문장.", author);
+
+        assertEquals("첫 문장. 바뀐 문장.", comment.getContent());
+        assertEquals(0.5, comment.getModerationScore());
+        assertTrue(comment.isModerationScoreExact());
+        assertEquals(ModerationStatus.APPROVED, comment.getModerationStatus());
+    }
+
+    @Test
+    void asyncModeKeepsCommentPendingAndReenqueues() {
+        Comment comment = comment(ModerationStatus.APPROVED, ModerationLabel.CLEAN);
+        when(asyncModerationWorker.isEnabled()).thenReturn(true);
+
+        commentService.updateComment(7L, "바뀐 댓글", author);
+
+        assertEquals(ModerationStatus.PENDING, comment.getModerationStatus());
+        InOrder order = inOrder(asyncModerationWorker, commentRepository);
+        order.verify(asyncModerationWorker).supersedeComment(7L);
+        order.verify(commentRepository).save(comment);
+        order.verify(asyncModerationWorker).moderateComment(7L, "바뀐 댓글");
+        verifyNoInteractions(moderationService);
+    }
+}
@@ -0,0 +1,140 @@
+package com.copoto.project.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.copoto.project.dto.post.PostResponse;
+import com.copoto.project.dto.post.PostVersion;
+import com.copoto.project.entity.ModerationStatus;
+
+// 게시글 상세 응답 캐시: generation으로 읽는 중에 무효화된 값을 버리는지, 복사본/조회수/한도
+class PostResponseCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    private static PostResponse response(long postId, String contents) {
+        PostResponse response = new PostResponse();
+        response.setPostId(postId);
+        response.setTitle("제목");
+        response.setContents(contents);
+        response.setType("free");
+        response.setUserId("user1");
+        response.setViewCount(10L);
+        return response;
+    }
+
+    private static PostVersion version(long postId) {
+        return new PostVersion(postId, "user1", ModerationStatus.APPROVED, UPDATED_AT, null, null);
+    }
+
+    private static void load(PostResponseCache cache, long postId, String contents) {
+        cache.putIfCurrent(postId, response(postId, contents), version(postId), cache.currentGeneration());
+    }
+
+    @Test
+    void loadStartedBeforeInvalidationIsDiscarded() {
+        PostResponseCache cache = new PostResponseCache(100, 1 << 20);
+        long generation = cache.currentGeneration();
+        // DB에서 이전 내용을 읽는 사이에 수정되어 무효화된 경우
+        cache.invalidate(1L);
+        cache.putIfCurrent(1L, response(1L, "이전 본문"), version(1L), generation);
+        assertNull(cache.get(1L));
+        assertNull(cache.getVersion(1L));
+
+        // 다른 글의 무효화도 generation을 올리므로 보수적으로 버린다
+        generation = cache.currentGeneration();
+        cache.invalidate(2L);
+        cache.putIfCurrent(1L, response(1L, "이전 본문"), version(1L), generation);
+        assertNull(cache.get(1L));
+
+        load(cache, 1L, "새 본문");
+        assertEquals("새 본문", cache.get(1L).getContents());
+        assertEquals(version(1L), cache.getVersion(1L));
+    }
+
+    @Test
+    void clearAlsoDiscardsInFlightLoads() {
+        PostResponseCache cache = new PostResponseCache(100, 1 << 20);
+        load(cache, 1L, "본문");
+        long generation = cache.currentGeneration();
+        cache.clear();
+        cache.putIfCurrent(2L, response(2L, "본문"), version(2L), generation);
+        assertNull(cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals(0L, cache.getStats().get("bytes"));
+    }
+
+    @Test
+    void storesAndReturnsCopies() {
+        PostResponseCache cache = new PostResponseCache(100, 1 << 20);
+        PostResponse loaded = response(1L, "본문");
+        cache.putIfCurrent(1L, loaded, version(1L), cache.currentGeneration());
+        loaded.setContents("캐시에 넣은 뒤 바뀐 본문");
+
+        PostResponse first = cache.get(1L);
+        first.setViewCount(999L); // 호출하는 쪽에서 응답을 고쳐도 캐시에는 영향이 없다
+        PostResponse second = cache.get(1L);
+        assertEquals("본문", second.getContents());
+        assertEquals(10L, second.getViewCount());
+    }
+
+    @Test
+    void addViewsUpdatesCachedCountWithoutTouchingVersion() {
+        PostResponseCache cache = new PostResponseCache(100, 1 << 20);
+        load(cache, 1L, "본문");
+        PostVersion before = cache.getVersion(1L);
+
+        long updateGeneration = cache.beginViewUpdate();
+        cache.addViews(1L, 5, updateGeneration);
+        cache.addViews(2L, 5, updateGeneration); // 캐시에 없는 글은 무시
+        assertEquals(15L, cache.get(1L).getViewCount());
+        assertSame(before, cache.getVersion(1L));
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    void loadDuringViewUpdateIsDroppedInsteadOfPatched() {
+        PostResponseCache cache = new PostResponseCache(100, 1 << 20);
+        long updateGeneration = cache.beginViewUpdate();
+        // DB 반영 중에 읽은 값 - 증가분이 포함됐는지 알 수 없다
+        load(cache, 1L, "본문");
+        long inFlight = cache.currentGeneration();
+        cache.addViews(1L, 5, updateGeneration);
+        assertNull(cache.get(1L));
+
+        cache.putIfCurrent(1L, response(1L, "본문"), version(1L), inFlight);
+        assertNull(cache.get(1L));
+        assertEquals(0L, cache.getStats().get("bytes"));
+
+        load(cache, 1L, "본문");
+        assertEquals(10L, cache.get(1L).getViewCount());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverEntryAndByteLimits() {
+        PostResponseCache cache = new PostResponseCache(2, 1 << 20);
+        load(cache, 1L, "본문");
+        load(cache, 2L, "본문");
+        assertNotNull(cache.get(1L)); // 1을 최근 사용으로
+        load(cache, 3L, "본문");
+        assertNull(cache.getVersion(2L));
+        assertNotNull(cache.getVersion(1L));
+        assertNotNull(cache.getVersion(3L));
+        assertEquals(1L, cache.getStats().get("evictions"));
+
+        // 엔트리 하나 = 400 + 2 * (2 + 2 + 4 + 5) = 426 bytes, 한도 900이면 두 개까지
+        PostResponseCache small = new PostResponseCache(100, 900);
+        load(small, 1L, "본문");
+        load(small, 2L, "본문");
+        assertEquals(852L, small.getStats().get("bytes"));
+        load(small, 3L, "본문");
+        assertNull(small.getVersion(1L));
+        assertEquals(852L, small.getStats().get("bytes"));
+    }
+}
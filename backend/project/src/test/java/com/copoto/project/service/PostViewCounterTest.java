@@ -0,0 +1,190 @@
+package com.copoto.project.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.copoto.project.dto.post.PostResponse;
+import com.copoto.project.dto.post.PostVersion;
+import com.copoto.project.entity.ModerationStatus;
+
+// 조회수 write-behind 버퍼: flush 시 증가분이 빠지거나 두 번 반영되지 않는지 확인 (DB는 JdbcTemplate mock)
+class PostViewCounterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PostResponseCache postResponseCache = new PostResponseCache(100, 1 << 20);
+    private final PostViewCounter counter = new PostViewCounter(jdbcTemplate, postResponseCache, true);
+
+    // batchUpdate로 반영된 (post_id -> 증가분) 합계
+    private final Map<Long, AtomicLong> applied = new ConcurrentHashMap<>();
+    private final List<List<Object[]>> batches = new ArrayList<>();
+
+    private void recordBatches() {
+        doAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            synchronized (batches) {
+                batches.add(new ArrayList<>(args));
+            }
+            for (Object[] arg : args) {
+                applied.computeIfAbsent((Long) arg[1], id -> new AtomicLong()).addAndGet((Long) arg[0]);
+            }
+            return new int[args.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    private long appliedTo(long postId) {
+        AtomicLong sum = applied.get(postId);
+        return sum == null ? 0 : sum.get();
+    }
+
+    @Test
+    void flushWritesOneIncrementPerPostInIdOrder() {
+        recordBatches();
+        counter.record(2L);
+        counter.record(1L);
+        counter.record(2L);
+        counter.record(2L);
+        assertEquals(3, counter.pending(2L));
+        assertEquals(13L, counter.merge(2L, 10L));
+
+        counter.flush();
+
+        assertEquals(1, batches.size());
+        assertArrayEquals(new Object[] { 1L, 1L }, batches.get(0).get(0));
+        assertArrayEquals(new Object[] { 3L, 2L }, batches.get(0).get(1));
+        assertEquals(0, counter.pending(2L));
+        assertEquals(10L, counter.merge(2L, 10L));
+    }
+
+    @Test
+    void idlePostIsEvictedWithoutWrites() {
+        recordBatches();
+        counter.record(1L);
+        counter.flush();
+        counter.flush(); // 조회 없음 -> 버퍼에서 빠지고 UPDATE 없음
+        counter.flush();
+        assertEquals(1, batches.size());
+
+        counter.record(1L);
+        counter.flush();
+        assertEquals(2, appliedTo(1L));
+    }
+
+    @Test
+    void failedFlushKeepsIncrementsForRetry() {
+        doThrow(new QueryTimeoutException("timeout")).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        counter.record(1L);
+        counter.record(1L);
+        counter.flush();
+        assertEquals(2, counter.pending(1L));
+
+        recordBatches();
+        counter.record(1L);
+        counter.flush();
+        assertEquals(3, appliedTo(1L));
+        assertEquals(0, counter.pending(1L));
+    }
+
+    private void cache(long postId, long viewCount, long loadedGeneration) {
+        PostResponse response = new PostResponse();
+        response.setPostId(postId);
+        response.setViewCount(viewCount);
+        postResponseCache.putIfCurrent(postId, response,
+            new PostVersion(postId, "user1", ModerationStatus.APPROVED, LocalDateTime.of(2024, 3, 1, 12, 0), null, null), loadedGeneration);
+    }
+
+    @Test
+    void cachedViewCountIsNotDoubleCountedByLoadDuringFlush() {
+        long[] inFlightLoad = new long[1];
+        doAnswer(invocation -> {
+            // UPDATE가 커밋된 뒤 캐시 미스로 읽어 넣은 2번 글 (이미 증가분 포함), 그리고 아직 넣지 못한 3번 글 로드
+            cache(2L, 12L, postResponseCache.currentGeneration());
+            inFlightLoad[0] = postResponseCache.currentGeneration();
+            return new int[2];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        cache(1L, 10L, postResponseCache.currentGeneration());
+        counter.record(1L);
+        counter.record(1L);
+        counter.record(2L);
+        counter.record(2L);
+
+        counter.flush();
+        cache(3L, 12L, inFlightLoad[0]);
+
+        // 반영 전에 읽은 값에는 증가분을 더하고, 반영 중에 읽은 값은 버린다
+        assertEquals(12L, postResponseCache.get(1L).getViewCount());
+        assertNull(postResponseCache.get(2L));
+        assertNull(postResponseCache.get(3L));
+    }
+
+    @Test
+    void concurrentRecordsDuringFlushAreNotLost() throws Exception {
+        recordBatches();
+        int threads = 8;
+        int viewsPerThread = 20_000;
+        long[] postIds = { 1L, 2L, 3L };
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    // 가끔 조회가 끊긴 글이 생기도록 글마다 빈도를 다르게 (유휴 글 제거 경로도 함께 실행)
+                    long postId = postIds[(i + offset) % 7 == 0 ? 2 : (i + offset) % 2];
+                    counter.record(postId);
+                }
+                return null;
+            }));
+        }
+        // 기록하는 동안 계속 flush
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (recording.get()) {
+                counter.flush();
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        recording.set(false);
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        counter.flush();
+
+        long total = 0;
+        for (long postId : postIds) {
+            total += appliedTo(postId);
+            assertEquals(0, counter.pending(postId));
+        }
+        assertEquals((long) threads * viewsPerThread, total);
+    }
+}
@@ -0,0 +1,83 @@
+package com.copoto.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+// 조건부 조회 검증자: ETag 형식/안정성, Last-Modified 계산, checkNotModified와의 연동
+class ETagsTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 3, 1, 12, 0);
+    private static final LocalDateTime MODERATED_AT = LocalDateTime.of(2024, 3, 1, 12, 5);
+
+    @Test
+    void strongETagIsStableQuotedHash() {
+        String etag = ETags.strong("post", 1L, UPDATED_AT, null);
+        assertTrue(etag.matches("\"[0-9a-f]{32}\""), etag);
+        assertEquals(etag, ETags.strong("post", 1L, UPDATED_AT, null));
+        // 버전을 이루는 값 중 하나라도 바뀌면 다른 값
+        assertNotEquals(etag, ETags.strong("post", 1L, UPDATED_AT, MODERATED_AT));
+        assertNotEquals(etag, ETags.strong("post", 2L, UPDATED_AT, null));
+        // 내부 값은 노출하지 않는다
+        assertFalse(etag.contains("post"));
+    }
+
+    @Test
+    void weakETagWrapsStrongValue() {
+        assertEquals("W/" + ETags.strong("post", 1L), ETags.weak("post", 1L));
+    }
+
+    @Test
+    void lastModifiedIsLatestNonNullTime() {
+        long moderated = ETags.lastModified(MODERATED_AT);
+        assertEquals(moderated, ETags.lastModified(UPDATED_AT, null, MODERATED_AT));
+        assertTrue(ETags.lastModified(UPDATED_AT) < moderated);
+        assertEquals(-1L, ETags.lastModified(null, null));
+        assertEquals(-1L, ETags.lastModified());
+    }
+
+    private static ServletWebRequest get(MockHttpServletResponse response, String header, String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/post/1");
+        request.addHeader(header, value);
+        return new ServletWebRequest(request, response);
+    }
+
+    @Test
+    void matchingWeakETagIsNotModified() {
+        String etag = ETags.weak("post", 1L, UPDATED_AT);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(get(response, HttpHeaders.IF_NONE_MATCH, etag).checkNotModified(etag, ETags.lastModified(UPDATED_AT)));
+        assertEquals(304, response.getStatus());
+        assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+
+        // 글이 수정되면 ETag가 바뀌어 본문을 다시 보낸다 (새 ETag는 응답 헤더로)
+        String changed = ETags.weak("post", 1L, MODERATED_AT);
+        MockHttpServletResponse modified = new MockHttpServletResponse();
+        assertFalse(get(modified, HttpHeaders.IF_NONE_MATCH, etag).checkNotModified(changed, ETags.lastModified(MODERATED_AT)));
+        assertEquals(200, modified.getStatus());
+        assertEquals(changed, modified.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void ifModifiedSinceUsesLatestTime() {
+        HttpHeaders since = new HttpHeaders();
+        since.setIfModifiedSince(ETags.lastModified(UPDATED_AT));
+        String header = since.getFirst(HttpHeaders.IF_MODIFIED_SINCE);
+
+        MockHttpServletResponse unchanged = new MockHttpServletResponse();
+        assertTrue(get(unchanged, HttpHeaders.IF_MODIFIED_SINCE, header).checkNotModified(ETags.lastModified(UPDATED_AT, null)));
+        assertEquals(304, unchanged.getStatus());
+
+        MockHttpServletResponse moderated = new MockHttpServletResponse();
+        assertFalse(get(moderated, HttpHeaders.IF_MODIFIED_SINCE, header).checkNotModified(ETags.lastModified(UPDATED_AT, MODERATED_AT)));
+    }
+}
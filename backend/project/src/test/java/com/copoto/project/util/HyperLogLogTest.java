@@ -0,0 +1,48 @@
+package com.copoto.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimatesWithinExpectedError() {
+        for (int n : new int[] { 10, 1_000, 100_000 }) {
+            HyperLogLog sketch = new HyperLogLog(12);
+            for (int i = 0; i < n; i++) {
+                sketch.offer("u:" + i);
+                sketch.offer("u:" + i); // 같은 조회자의 재조회는 세지 않는다
+            }
+            // 표준 오차 약 1.6% - 여유 있게 5%
+            assertTrue(Math.abs(sketch.estimate() - n) <= Math.max(1, n * 0.05), n + " -> " + sketch.estimate());
+        }
+    }
+
+    @Test
+    void repeatedKeyDoesNotChangeRegisters() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        assertTrue(sketch.offer("u:user1"));
+        assertFalse(sketch.offer("u:user1"));
+        assertEquals(1, sketch.estimate());
+    }
+
+    @Test
+    void roundTripsAndMerges() {
+        HyperLogLog a = new HyperLogLog(12);
+        HyperLogLog b = new HyperLogLog(12);
+        for (int i = 0; i < 5_000; i++) {
+            a.offer("k" + i);
+        }
+        for (int i = 2_500; i < 7_500; i++) {
+            b.offer("k" + i);
+        }
+        HyperLogLog restored = HyperLogLog.fromBytes(a.toBytes());
+        assertEquals(a.estimate(), restored.estimate());
+
+        restored.merge(b);
+        assertTrue(Math.abs(restored.estimate() - 7_500) <= 7_500 * 0.05);
+    }
+}
@@ -0,0 +1,54 @@
+package com.copoto.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+// 목록 API cursor: base64url 왕복, "createdAt,id" 원문, 잘못된 값 거부
+class KeysetCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000);
+
+    @Test
+    void encodedCursorRoundTrips() {
+        String encoded = KeysetCursor.of(CREATED_AT, 42L).encode();
+        // URL에 그대로 넣을 수 있도록 패딩과 '+', '/'가 없어야 한다
+        assertFalse(encoded.contains("=") || encoded.contains("+") || encoded.contains("/"), encoded);
+
+        KeysetCursor decoded = KeysetCursor.decodeOrStart(encoded, true);
+        assertEquals(CREATED_AT, decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void acceptsRawCreatedAtAndId() {
+        KeysetCursor cursor = KeysetCursor.decodeOrStart(" 2024-03-01T09:30:15 , 7 ", false);
+        assertEquals(LocalDateTime.of(2024, 3, 1, 9, 30, 15), cursor.getCreatedAt());
+        assertEquals(7L, cursor.getId());
+    }
+
+    @Test
+    void missingCursorStartsFromEitherEnd() {
+        KeysetCursor newest = KeysetCursor.decodeOrStart(null, true);
+        KeysetCursor oldest = KeysetCursor.decodeOrStart(" ", false);
+        // 첫 페이지도 같은 쿼리를 쓰므로 실제 데이터보다 바깥 값이어야 한다
+        assertTrue(newest.getCreatedAt().isAfter(LocalDateTime.now().plusYears(1000)));
+        assertEquals(Long.MAX_VALUE, newest.getId());
+        assertTrue(oldest.getCreatedAt().isBefore(LocalDateTime.of(1900, 1, 1, 0, 0)));
+        assertEquals(0L, oldest.getId());
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        for (String bad : new String[] { "!!!", "abc", "2024-13-01T00:00,1", "2024-03-01T00:00,x", "2024-03-01T00:00," }) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decodeOrStart(bad, true), bad);
+            assertEquals("Invalid cursor: " + bad, e.getMessage());
+        }
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.of(null, 1L));
+    }
+}
@@ -0,0 +1,73 @@
+package com.copoto.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// page/size/sort 파라미터 검증 - 허용된 정렬 키만 엔티티 속성으로 바꾼다, 같은 시각 정렬용 id tie-break
+class PageRequestsTest {
+
+    private static final Map<String, String> SORTS = Map.of("createdAt", "createdAt", "views", "view_count");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    @Test
+    void mapsAllowedSortKeyToProperty() {
+        Pageable pageable = PageRequests.of(2, 10, "views,asc", SORTS, DEFAULT_SORT);
+        assertEquals(2, pageable.getPageNumber());
+        assertEquals(10, pageable.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.ASC, "view_count"), pageable.getSort());
+
+        // 방향을 생략하면 desc
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt"), PageRequests.of(0, 20, " createdAt ", SORTS, DEFAULT_SORT).getSort());
+        assertEquals(DEFAULT_SORT, PageRequests.of(0, 20, "", SORTS, DEFAULT_SORT).getSort());
+        assertEquals(DEFAULT_SORT, PageRequests.of(0, 20, null, SORTS, DEFAULT_SORT).getSort());
+    }
+
+    @Test
+    void rejectsUnsupportedSortAndDirection() {
+        // 엔티티 속성 이름을 직접 넘겨도 허용 목록의 키가 아니면 거부
+        assertThrows(IllegalArgumentException.class, () -> PageRequests.of(0, 20, "view_count,desc", SORTS, DEFAULT_SORT));
+        assertThrows(IllegalArgumentException.class, () -> PageRequests.of(0, 20, "title", SORTS, DEFAULT_SORT));
+        assertThrows(IllegalArgumentException.class, () -> PageRequests.of(0, 20, "createdAt,sideways", SORTS, DEFAULT_SORT));
+    }
+
+    @Test
+    void rejectsOutOfRangePageAndSize() {
+        assertThrows(IllegalArgumentException.class, () -> PageRequests.of(-1, 20, null, SORTS, DEFAULT_SORT));
+        assertThrows(IllegalArgumentException.class, () -> PageRequests.of(0, 0, null, SORTS, DEFAULT_SORT));
+        assertThrows(IllegalArgumentException.class, () -> PageRequests.of(0, PageRequests.MAX_SIZE + 1, null, SORTS, DEFAULT_SORT));
+        assertEquals(PageRequests.MAX_SIZE, PageRequests.of(0, PageRequests.MAX_SIZE, null, SORTS, DEFAULT_SORT).getPageSize());
+    }
+
+    @Test
+    void tieBreakAppendsIdInDirectionOfFirstSort() {
+        Pageable newest = PageRequests.withTieBreak(PageRequests.of(1, 20, null, SORTS, DEFAULT_SORT), "postId");
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt", "postId"), newest.getSort());
+        assertEquals(1, newest.getPageNumber());
+        assertEquals(20, newest.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.ASC, "view_count", "id"),
+            PageRequests.withTieBreak(PageRequests.of(0, 20, "views,asc", SORTS, DEFAULT_SORT), "id").getSort());
+
+        // 이미 id로 정렬하거나 정렬이 없으면 그대로
+        Pageable byId = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "postId"));
+        assertSame(byId, PageRequests.withTieBreak(byId, "postId"));
+        Pageable unsorted = PageRequests.keyset(5);
+        assertSame(unsorted, PageRequests.withTieBreak(unsorted, "postId"));
+    }
+
+    @Test
+    void keysetLimitDefaultsAndIsBounded() {
+        assertEquals(PageRequests.DEFAULT_SIZE, PageRequests.keyset(null).getPageSize());
+        assertEquals(5, PageRequests.keyset(5).getPageSize());
+        assertEquals(0, PageRequests.keyset(5).getPageNumber());
+        assertThrows(IllegalArgumentException.class, () -> PageRequests.keyset(0));
+        assertThrows(IllegalArgumentException.class, () -> PageRequests.keyset(PageRequests.MAX_SIZE + 1));
+    }
+}